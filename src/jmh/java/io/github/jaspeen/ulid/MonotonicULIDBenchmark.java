@@ -0,0 +1,59 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronized {@link MonotonicULID} compared to lock-free {@link ConcurrentMonotonicULID}
+ * with single and multiple generating threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MonotonicULIDBenchmark {
+    private final MonotonicULID monotonic = new MonotonicULID(new SecureRandom());
+    private final ConcurrentMonotonicULID concurrent = new ConcurrentMonotonicULID(new SecureRandom());
+
+    @Benchmark
+    @Threads(1)
+    public ULID monotonicSingleThread() {
+        return monotonic.next();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ULID concurrentSingleThread() {
+        return concurrent.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ULID monotonic8Threads() {
+        return monotonic.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ULID concurrent8Threads() {
+        return concurrent.next();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(MonotonicULIDBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
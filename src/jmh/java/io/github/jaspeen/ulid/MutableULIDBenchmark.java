@@ -0,0 +1,58 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse and inspect loop using reusable {@link MutableULID} compared to {@link ULID#fromString(String)}.
+ * Allocation rate is reported by gc profiler ({@code gc.alloc.rate.norm} per operation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MutableULIDBenchmark {
+    private final String[] ids = new String[1024];
+    private final MutableULID mutable = new MutableULID();
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ULID.random().toString();
+        }
+    }
+
+    private String nextId() {
+        index = (index + 1) & (ids.length - 1);
+        return ids[index];
+    }
+
+    @Benchmark
+    public long immutableParse() {
+        return ULID.fromString(nextId()).getTimestamp();
+    }
+
+    @Benchmark
+    public long mutableParse() {
+        return mutable.parse(nextId()).getTimestamp();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(MutableULIDBenchmark.class.getSimpleName())
+                              .addProfiler("gc")
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
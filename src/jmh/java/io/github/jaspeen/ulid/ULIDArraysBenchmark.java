@@ -0,0 +1,96 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of packed parallel sort compared to {@link Arrays#parallelSort(Object[])} of ULID objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ULIDArraysBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int cores;
+
+    @Param({"10000000"})
+    public int size;
+
+    private ForkJoinPool pool;
+    private ULID[] source;
+    private long[] packedSource;
+
+    private ULID[] ulids;
+    private long[] packed;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        pool = new ForkJoinPool(cores);
+        Random random = new Random(42);
+        long base = System.currentTimeMillis();
+        source = new ULID[size];
+        for (int i = 0; i < size; i++) {
+            // every 10th value is a duplicate, timestamps spread over one day
+            if (i > 0 && random.nextInt(10) == 0) {
+                source[i] = source[random.nextInt(i)];
+            } else {
+                byte[] entropy = new byte[ULID.ENTROPY_LENGTH];
+                random.nextBytes(entropy);
+                source[i] = ULID.generate(base + random.nextInt(86_400_000), entropy);
+            }
+        }
+        packedSource = ULIDArrays.pack(source);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        ulids = source.clone();
+        packed = packedSource.clone();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int packedSortUnique() {
+        return ULIDArrays.parallelSortUnique(packed, pool);
+    }
+
+    @Benchmark
+    public int objectSortUnique() throws Exception {
+        return pool.submit(() -> {
+            Arrays.parallelSort(ulids);
+            int w = ulids.length == 0 ? 0 : 1;
+            for (int r = 1; r < ulids.length; r++) {
+                if (!ulids[r].equals(ulids[w - 1])) {
+                    ulids[w++] = ulids[r];
+                }
+            }
+            return w;
+        }).get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDArraysBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(3)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary field extraction: allocating {@link ULID#toBytes()} and {@link ULID#getEntropy()} compared to variants
+ * writing into caller buffer, and reading ULIDs from a packed byte array and buffer.
+ * Allocation rate is reported by gc profiler ({@code gc.alloc.rate.norm} per operation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDBinaryBenchmark {
+    private static final int COUNT = 1024;
+
+    private final ULID ulid = ULID.random();
+    private final byte[] bytes = new byte[ULID.BIN_LENGTH];
+    private final byte[] packed = new byte[COUNT * ULID.BIN_LENGTH];
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(COUNT * ULID.BIN_LENGTH);
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < COUNT; i++) {
+            ULID.random().toBytes(packed, i * ULID.BIN_LENGTH);
+        }
+        buffer.put(packed).clear();
+    }
+
+    private int nextIndex() {
+        index = (index + 1) & (COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public byte[] toBytesAllocating() {
+        return ulid.toBytes();
+    }
+
+    @Benchmark
+    public byte[] toBytesOffset() {
+        ulid.toBytes(bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] getEntropyAllocating() {
+        return ulid.getEntropy();
+    }
+
+    @Benchmark
+    public long getEntropyPrimitives() {
+        return ulid.getEntropyHigh() ^ ulid.getEntropyLow();
+    }
+
+    @Benchmark
+    public ULID fromBytesCopy() {
+        byte[] copy = new byte[ULID.BIN_LENGTH];
+        System.arraycopy(packed, nextIndex() * ULID.BIN_LENGTH, copy, 0, ULID.BIN_LENGTH);
+        return ULID.fromBytes(copy);
+    }
+
+    @Benchmark
+    public ULID fromBytesOffset() {
+        return ULID.fromBytes(packed, nextIndex() * ULID.BIN_LENGTH);
+    }
+
+    @Benchmark
+    public ULID fromByteBuffer() {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+        }
+        return ULID.fromBytes(buffer);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDBinaryBenchmark.class.getSimpleName())
+                              .addProfiler("gc")
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
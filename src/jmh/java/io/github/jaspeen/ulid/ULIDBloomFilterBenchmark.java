@@ -0,0 +1,93 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ULIDBloomFilter} insert and lookup throughput. Lookups of absent ULIDs also count false positives, measured
+ * false positive rate is {@code falsePositives / lookups} of {@link #lookupAbsent} secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDBloomFilterBenchmark {
+    private static final int COUNT = 1 << 20;
+
+    @Param({"0.01", "0.001"})
+    private double fpp;
+
+    private ULIDBloomFilter filter;
+    private final ULID[] present = new ULID[COUNT];
+    private final ULID[] absent = new ULID[COUNT];
+
+    @State(Scope.Thread)
+    public static class Index {
+        int value;
+
+        int next() {
+            value = (value + 1) & (COUNT - 1);
+            return value;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class FalsePositives {
+        public long lookups;
+        public long falsePositives;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            falsePositives = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        filter = new ULIDBloomFilter(COUNT, fpp, TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < COUNT; i++) {
+            present[i] = ULID.random();
+            absent[i] = ULID.random();
+            filter.put(present[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean put(Index index) {
+        return filter.put(present[index.next()]);
+    }
+
+    @Benchmark
+    public boolean lookupPresent(Index index) {
+        return filter.mightContain(present[index.next()]);
+    }
+
+    @Benchmark
+    public boolean lookupAbsent(Index index, FalsePositives counters) {
+        boolean res = filter.mightContain(absent[index.next()]);
+        counters.lookups++;
+        if (res) {
+            counters.falsePositives++;
+        }
+        return res;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDBloomFilterBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
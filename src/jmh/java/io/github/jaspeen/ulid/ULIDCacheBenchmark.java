@@ -0,0 +1,59 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing repeated hot IDs through {@link ULIDCache} compared to {@link ULID#fromString(String)}.
+ * Run with {@code -prof gc} to see allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class ULIDCacheBenchmark {
+
+    @Param({"1000", "100000"})
+    public int hotIds;
+
+    private String[] ids;
+    private ULIDCache cache;
+
+    @Setup
+    public void setup() {
+        ids = new String[hotIds];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ULID.random().toString();
+        }
+        cache = new ULIDCache(hotIds * 2);
+    }
+
+    @Benchmark
+    public ULID cached() {
+        return cache.get(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public ULID fromString() {
+        return ULID.fromString(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDCacheBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
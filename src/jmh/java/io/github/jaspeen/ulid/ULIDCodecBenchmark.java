@@ -0,0 +1,110 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode paths on a rotating set of ULIDs, counterpart of {@code ULIDCodecFuzzTest}: codec changes should
+ * keep the fuzz test green and be measured here. Allocation rate is reported by gc profiler
+ * ({@code gc.alloc.rate.norm} per operation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDCodecBenchmark {
+    private static final int COUNT = 1024;
+
+    private final ULID[] ulids = new ULID[COUNT];
+    private final String[] strings = new String[COUNT];
+    private final String[] lowerCase = new String[COUNT];
+    private final char[][] chars = new char[COUNT][];
+    private final byte[][] bytes = new byte[COUNT][];
+    private final char[] charBuffer = new char[ULID.STR_LENGTH];
+    private final byte[] byteBuffer = new byte[ULID.BIN_LENGTH];
+    private final MutableULID mutable = new MutableULID();
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < COUNT; i++) {
+            ulids[i] = ULID.random();
+            strings[i] = ulids[i].toString();
+            lowerCase[i] = strings[i].toLowerCase(Locale.ROOT);
+            chars[i] = strings[i].toCharArray();
+            bytes[i] = ulids[i].toBytes();
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (COUNT - 1);
+        return index;
+    }
+
+    @Benchmark
+    public String toStringCodec() {
+        return ulids[next()].toString();
+    }
+
+    @Benchmark
+    public char[] toChars() {
+        ulids[next()].toChars(charBuffer, 0);
+        return charBuffer;
+    }
+
+    @Benchmark
+    public ULID fromString() {
+        return ULID.fromString(strings[next()]);
+    }
+
+    @Benchmark
+    public ULID fromStringLowerCase() {
+        return ULID.fromString(lowerCase[next()]);
+    }
+
+    @Benchmark
+    public ULID fromChars() {
+        return ULID.fromChars(chars[next()], 0);
+    }
+
+    @Benchmark
+    public MutableULID mutableParse() {
+        return mutable.parse(strings[next()]);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        ulids[next()].toBytes(byteBuffer, 0);
+        return byteBuffer;
+    }
+
+    @Benchmark
+    public ULID fromBytes() {
+        return ULID.fromBytes(bytes[next()]);
+    }
+
+    @Benchmark
+    public UUID toUUID() {
+        return ulids[next()].toUUID();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDCodecBenchmark.class.getSimpleName())
+                              .addProfiler("gc")
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
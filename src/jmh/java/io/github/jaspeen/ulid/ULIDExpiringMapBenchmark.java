@@ -0,0 +1,105 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert, lookup and periodic expiration of short-lived entries: {@link ULIDExpiringMap} compared to
+ * {@link ConcurrentHashMap} with expiry tracked in {@link DelayQueue}. Every thread inserts an entry per operation
+ * and expires old entries every 256 operations. Run by {@link #main} with 1, 2, 4 and 8 threads to show scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDExpiringMapBenchmark {
+    private static final long TTL_MILLIS = 100;
+    private static final int EXPIRE_EVERY = 256;
+
+    static final class Expiring implements Delayed {
+        final ULID key;
+        final long expiresAt;
+
+        Expiring(ULID key) {
+            this.key = key;
+            this.expiresAt = key.getTimestamp() + TTL_MILLIS;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(expiresAt, ((Expiring) o).expiresAt);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Counter {
+        int value;
+
+        boolean expireNow() {
+            return (++value & (EXPIRE_EVERY - 1)) == 0;
+        }
+    }
+
+    private ULIDExpiringMap<Object> expiringMap;
+    private ConcurrentHashMap<ULID, Object> map;
+    private DelayQueue<Expiring> queue;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        expiringMap = new ULIDExpiringMap<>(10);
+        map = new ConcurrentHashMap<>();
+        queue = new DelayQueue<>();
+    }
+
+    @Benchmark
+    public Object expiringMap(Counter counter) {
+        ULID key = ULID.random();
+        expiringMap.put(key, key);
+        if (counter.expireNow()) {
+            expiringMap.expire(TTL_MILLIS);
+        }
+        return expiringMap.get(key);
+    }
+
+    @Benchmark
+    public Object hashMapDelayQueue(Counter counter) {
+        ULID key = ULID.random();
+        map.put(key, key);
+        queue.add(new Expiring(key));
+        if (counter.expireNow()) {
+            Expiring expired;
+            while ((expired = queue.poll()) != null) {
+                map.remove(expired.key);
+            }
+        }
+        return map.get(key);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] {1, 2, 4, 8}) {
+            Options opt = new OptionsBuilder()
+                                  .include(ULIDExpiringMapBenchmark.class.getSimpleName())
+                                  .threads(threads)
+                                  .warmupTime(TimeValue.seconds(2))
+                                  .warmupIterations(5)
+                                  .measurementIterations(5)
+                                  .forks(1)
+                                  .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.jaspeen.ulid;
+
+import io.github.jaspeen.ulid.hibernate.ULIDIdGenerator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch inserts into in-memory H2 with {@link ULIDIdGenerator} generating String IDs one by one compared to
+ * pooled generation ({@value ULIDIdGenerator#POOL_SIZE_PARAM} = 1000), with {@code hibernate.jdbc.batch_size=1000}.
+ * Score is per inserted entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDIdGeneratorBenchmark {
+    private static final int ROWS = 10_000;
+
+    @Entity(name = "SingleEntity")
+    @Table(name = "single_entity")
+    public static class SingleEntity {
+        @Id
+        @GeneratedValue(generator = "ulid_single")
+        @GenericGenerator(name = "ulid_single", strategy = "io.github.jaspeen.ulid.hibernate.ULIDIdGenerator")
+        private String id;
+
+        private long payload;
+
+        public SingleEntity() {
+        }
+
+        public SingleEntity(long payload) {
+            this.payload = payload;
+        }
+    }
+
+    @Entity(name = "PooledEntity")
+    @Table(name = "pooled_entity")
+    public static class PooledEntity {
+        @Id
+        @GeneratedValue(generator = "ulid_pooled")
+        @GenericGenerator(name = "ulid_pooled", strategy = "io.github.jaspeen.ulid.hibernate.ULIDIdGenerator",
+                parameters = @Parameter(name = ULIDIdGenerator.POOL_SIZE_PARAM, value = "1000"))
+        private String id;
+
+        private long payload;
+
+        public PooledEntity() {
+        }
+
+        public PooledEntity(long payload) {
+            this.payload = payload;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(SingleEntity.class)
+                .addAnnotatedClass(PooledEntity.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:ulid;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "1000")
+                .setProperty("hibernate.order_inserts", "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from SingleEntity").executeUpdate();
+            session.createMutationQuery("delete from PooledEntity").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void single() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new SingleEntity(i));
+                flushBatch(session, i);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pooled() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new PooledEntity(i));
+                flushBatch(session, i);
+            }
+        });
+    }
+
+    private static void flushBatch(Session session, int i) {
+        if ((i + 1) % 1000 == 0) {
+            session.flush();
+            session.clear();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDIdGeneratorBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
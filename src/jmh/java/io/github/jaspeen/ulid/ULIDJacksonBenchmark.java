@@ -0,0 +1,93 @@
+package io.github.jaspeen.ulid;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.jaspeen.ulid.jackson.ULIDModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ULID Jackson module compared to naive toString/fromString serializers on array of 100 ULIDs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDJacksonBenchmark {
+
+    static class NaiveSerializer extends JsonSerializer<ULID> {
+        @Override
+        public void serialize(ULID value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(value.toString());
+        }
+    }
+
+    static class NaiveDeserializer extends JsonDeserializer<ULID> {
+        @Override
+        public ULID deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return ULID.fromString(p.getValueAsString());
+        }
+    }
+
+    private ObjectMapper moduleMapper;
+    private ObjectMapper naiveMapper;
+    private ULID[] ulids;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        moduleMapper = new ObjectMapper().registerModule(new ULIDModule());
+        naiveMapper = new ObjectMapper().registerModule(new SimpleModule()
+                                                                .addSerializer(ULID.class, new NaiveSerializer())
+                                                                .addDeserializer(ULID.class, new NaiveDeserializer()));
+        ulids = new ULID[100];
+        for (int i = 0; i < ulids.length; i++) {
+            ulids[i] = ULID.random();
+        }
+        json = moduleMapper.writeValueAsBytes(ulids);
+    }
+
+    @Benchmark
+    public byte[] serializeModule() throws IOException {
+        return moduleMapper.writeValueAsBytes(ulids);
+    }
+
+    @Benchmark
+    public byte[] serializeNaive() throws IOException {
+        return naiveMapper.writeValueAsBytes(ulids);
+    }
+
+    @Benchmark
+    public ULID[] deserializeModule() throws IOException {
+        return moduleMapper.readValue(json, ULID[].class);
+    }
+
+    @Benchmark
+    public ULID[] deserializeNaive() throws IOException {
+        return naiveMapper.readValue(json, ULID[].class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDJacksonBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.jaspeen.ulid;
+
+import io.github.jaspeen.ulid.hibernate.ULIDListConverter;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Store and load of entities with {@code List<ULID>} field in in-memory H2: packed binary column using
+ * {@link ULIDListConverter} compared to comma separated strings. Load reads one element of every list, as typical
+ * access does not touch the whole collection. Score is per entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDListConverterBenchmark {
+    private static final int ROWS = 1000;
+    private static final int IDS_PER_ROW = 20;
+
+    public static class CommaSeparatedConverter implements AttributeConverter<List<ULID>, String> {
+        @Override
+        public String convertToDatabaseColumn(List<ULID> attribute) {
+            StringBuilder sb = new StringBuilder(attribute.size() * (ULID.STR_LENGTH + 1));
+            for (ULID ulid : attribute) {
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(ulid);
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public List<ULID> convertToEntityAttribute(String dbData) {
+            List<ULID> res = new ArrayList<>();
+            if (!dbData.isEmpty()) {
+                for (String s : dbData.split(",")) {
+                    res.add(ULID.fromString(s));
+                }
+            }
+            return res;
+        }
+    }
+
+    @Entity(name = "PackedEntity")
+    @Table(name = "packed_entity")
+    public static class PackedEntity {
+        @Id
+        private long id;
+
+        @Convert(converter = ULIDListConverter.class)
+        @Column(length = IDS_PER_ROW * ULID.BIN_LENGTH)
+        private List<ULID> refs;
+
+        public PackedEntity() {
+        }
+
+        public PackedEntity(long id, List<ULID> refs) {
+            this.id = id;
+            this.refs = refs;
+        }
+    }
+
+    @Entity(name = "StringEntity")
+    @Table(name = "string_entity")
+    public static class StringEntity {
+        @Id
+        private long id;
+
+        @Convert(converter = CommaSeparatedConverter.class)
+        @Column(length = IDS_PER_ROW * (ULID.STR_LENGTH + 1))
+        private List<ULID> refs;
+
+        public StringEntity() {
+        }
+
+        public StringEntity(long id, List<ULID> refs) {
+            this.id = id;
+            this.refs = refs;
+        }
+    }
+
+    private SessionFactory sessionFactory;
+    private final List<List<ULID>> refs = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(PackedEntity.class)
+                .addAnnotatedClass(StringEntity.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:ulid_list;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "1000")
+                .buildSessionFactory();
+        for (int i = 0; i < ROWS; i++) {
+            List<ULID> list = new ArrayList<>(IDS_PER_ROW);
+            for (int j = 0; j < IDS_PER_ROW; j++) {
+                list.add(ULID.random());
+            }
+            refs.add(list);
+        }
+        storePacked();
+        storeString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    private void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from PackedEntity").executeUpdate();
+            session.createMutationQuery("delete from StringEntity").executeUpdate();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void storePacked() {
+        truncate();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new PackedEntity(i, refs.get(i)));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void storeString() {
+        truncate();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new StringEntity(i, refs.get(i)));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long loadPacked() {
+        return sessionFactory.fromTransaction(session -> {
+            long res = 0;
+            for (PackedEntity e : session.createSelectionQuery("from PackedEntity", PackedEntity.class).list()) {
+                res += e.refs.get(0).getTimestamp();
+            }
+            return res;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long loadString() {
+        return sessionFactory.fromTransaction(session -> {
+            long res = 0;
+            for (StringEntity e : session.createSelectionQuery("from StringEntity", StringEntity.class).list()) {
+                res += e.refs.get(0).getTimestamp();
+            }
+            return res;
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDListConverterBenchmark.class.getSimpleName())
+                              .addProfiler("gc")
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
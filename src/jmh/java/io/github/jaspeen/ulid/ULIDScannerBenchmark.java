@@ -0,0 +1,89 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extraction of ULIDs from log-like text compared to line by line regex matching.
+ * <p>
+ * Every operation processes {@link #SIZE_MB} megabytes, so throughput in MB/s is ops/s multiplied by {@link #SIZE_MB}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ULIDScannerBenchmark {
+    static final int SIZE_MB = 16;
+
+    private static final Pattern ULID_PATTERN =
+            Pattern.compile("\\b[0-7][0-9A-HJKMNP-TV-Za-hjkmnp-tv-z]{25}\\b");
+
+    private byte[] data;
+    private ULIDScanner scanner;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder(SIZE_MB * 1024 * 1024);
+        int line = 0;
+        while (sb.length() < SIZE_MB * 1024 * 1024) {
+            sb.append("2023-06-01T12:00:00.000Z INFO  [http-nio-8080-exec-").append(line % 16)
+              .append("] c.e.RequestLogger - request=").append(ULID.random())
+              .append(" user=").append(ULID.random().toString().toLowerCase())
+              .append(" path=/api/v1/items/").append(line)
+              .append(" status=200 time=").append(line % 1000).append("ms\n");
+            line++;
+        }
+        data = sb.substring(0, SIZE_MB * 1024 * 1024).getBytes(StandardCharsets.US_ASCII);
+        scanner = new ULIDScanner();
+    }
+
+    @Benchmark
+    public long scanner(Blackhole bh) throws IOException {
+        return scanner.scan(new ByteArrayInputStream(data), (msb, lsb) -> {
+            bh.consume(msb);
+            bh.consume(lsb);
+        });
+    }
+
+    @Benchmark
+    public long regex(Blackhole bh) throws IOException {
+        long res = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher m = ULID_PATTERN.matcher(line);
+                while (m.find()) {
+                    bh.consume(ULID.fromString(m.group()));
+                    res++;
+                }
+            }
+        }
+        return res;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDScannerBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
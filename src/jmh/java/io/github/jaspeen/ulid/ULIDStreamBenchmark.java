@@ -0,0 +1,45 @@
+package io.github.jaspeen.ulid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Parallel stream of ULIDs compared to parallel stream from synchronized {@link MonotonicULID} supplier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ULIDStreamBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Benchmark
+    public long ulidStream() {
+        return ULID.stream().parallel().limit(size).mapToLong(ULID::getLsb).sum();
+    }
+
+    @Benchmark
+    public long synchronizedSupplier() {
+        return Stream.generate(MonotonicULID::random).parallel().limit(size).mapToLong(ULID::getLsb).sum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                              .include(ULIDStreamBenchmark.class.getSimpleName())
+                              .warmupTime(TimeValue.seconds(2))
+                              .warmupIterations(5)
+                              .measurementIterations(5)
+                              .forks(1)
+                              .build();
+
+        new Runner(opt).run();
+    }
+}
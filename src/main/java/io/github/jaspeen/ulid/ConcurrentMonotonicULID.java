@@ -0,0 +1,133 @@
+package io.github.jaspeen.ulid;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free monotonic ULID generator.
+ * <p>
+ * Follows the same rules as {@link MonotonicULID}: within the same millisecond
+ * the random component is incremented by 1 bit in the least significant bit position (with carrying).
+ * Unlike {@link MonotonicULID} it holds no monitor, last generated ULID is updated with compare-and-set
+ * and entropy for a new millisecond is drawn before that, so slow entropy source blocks only the calling thread.
+ * This makes it suitable for virtual threads, which are pinned to carrier threads inside synchronized blocks.
+ * <p>
+ * If clock moves backwards, timestamp of the last ULID is kept and entropy is incremented, so generated values
+ * remain monotonic. Such regression is reported once, when the clock first falls behind the last ULID.
+ * <p>
+ * Usage:
+ * <pre>
+ *     ULID ulid = ConcurrentMonotonicULID.random();
+ * </pre>
+ * @see <a href="https://github.com/ulid/spec#monotonicity">ULID monotonicity</a>
+ */
+public class ConcurrentMonotonicULID {
+    private final Random random;
+    private final MonotonicULIDStats stats;
+    private final AtomicReference<State> last = new AtomicReference<>(new State(new ULID(0L, 0L), 0L, false));
+
+    public ConcurrentMonotonicULID(Random random) {
+        this(random, false);
+    }
+
+    /**
+     * @param random source of entropy, should be thread safe
+     * @param instrumented collect generation counters, see {@link #getMetrics()}
+     */
+    public ConcurrentMonotonicULID(Random random, boolean instrumented) {
+        this.random = random;
+        this.stats = instrumented ? new MonotonicULIDStats() : null;
+    }
+
+    public ULID next() {
+        byte[] entropy = null;
+        long contendedSince = 0L;
+        while (true) {
+            State prev = last.get();
+            long prevTime = prev.ulid.getTimestamp();
+            long now = System.currentTimeMillis();
+            State next;
+            if (now > prevTime) {
+                if (entropy == null) {
+                    // not visible to other threads, can be reused on retry
+                    entropy = new byte[ULID.ENTROPY_LENGTH];
+                    random.nextBytes(entropy);
+                }
+                next = new State(ULID.generate(now, entropy), 1L, false);
+            } else {
+                next = new State(increment(prev.ulid), prev.burst + 1, now < prevTime);
+            }
+            if (last.compareAndSet(prev, next)) {
+                if (next.regressed && !prev.regressed) {
+                    // report once per regression, not for every ULID generated until the clock catches up
+                    if (stats != null) {
+                        stats.clockRegression();
+                    }
+                    ULIDEvents.clockRegression(prevTime, now);
+                }
+                if (stats != null) {
+                    if (contendedSince != 0L) {
+                        stats.acquired(true, System.nanoTime() - contendedSince);
+                    }
+                    if (next.burst > 1) {
+                        stats.increment(next.burst);
+                    } else {
+                        stats.newMillis(1L);
+                    }
+                }
+                return next.ulid;
+            }
+            if (stats != null && contendedSince == 0L) {
+                contendedSince = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Returns generation counters, all zeros if generator is not instrumented.
+     */
+    public ULIDGeneratorMetrics getMetrics() {
+        return stats != null ? stats : MonotonicULIDStats.DISABLED;
+    }
+
+    private ULID increment(ULID prev) {
+        long msb = prev.getMsb();
+        long lsb = prev.getLsb() + 1;
+        if (lsb == 0L) {
+            // carry to 16 bits of entropy in msb
+            if ((msb & 0xffffL) == 0xffffL) {
+                if (stats != null) {
+                    stats.overflow();
+                }
+                ULIDEvents.entropyOverflow(prev.getTimestamp());
+                // Throw error if entropy overflows in same millisecond per ULID spec
+                throw new IllegalStateException("ULID entropy overflowed for same millisecond");
+            }
+            msb++;
+        }
+        return new ULID(msb, lsb);
+    }
+
+    /**
+     * Last generated ULID with same millisecond burst length and clock regression flag,
+     * replaced as a whole so counters stay consistent with the ULID.
+     */
+    private static final class State {
+        final ULID ulid;
+        final long burst;
+        final boolean regressed;
+
+        State(ULID ulid, long burst, boolean regressed) {
+            this.ulid = ulid;
+            this.burst = burst;
+            this.regressed = regressed;
+        }
+    }
+
+    public static final ConcurrentMonotonicULID DEFAULT = new ConcurrentMonotonicULID(new SecureRandom());
+
+    public static ULID random() {
+        return DEFAULT.next();
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.jaspeen.ulid;
 
 import java.security.SecureRandom;
+import java.util.Objects;
 import java.util.Random;
 
 /**
@@ -11,6 +12,9 @@ import java.util.Random;
  * <p>
  * <i>This implementation is synchronized besides locks in Random implementation</i>
  * <p>
+ * Optional instrumentation collects counters available via {@link #getMetrics()} and adds small overhead.
+ * Entropy overflows and clock regressions are always reported as JFR events.
+ * <p>
  * Usage:
  * <p>
  * <pre>
@@ -20,14 +24,82 @@ import java.util.Random;
  */
 public class MonotonicULID {
     private final Random random;
+    private final MonotonicULIDStats stats;
     private long lastTime = 0L;
     private final byte[] lastEntropy = new byte[ULID.ENTROPY_LENGTH];
 
     public MonotonicULID(Random random) {
+        this(random, false);
+    }
+
+    /**
+     * @param random source of entropy
+     * @param instrumented collect generation counters, see {@link #getMetrics()}
+     */
+    public MonotonicULID(Random random, boolean instrumented) {
         this.random = random;
+        this.stats = instrumented ? new MonotonicULIDStats() : null;
+    }
+
+    public ULID next() {
+        if (stats == null) {
+            synchronized (this) {
+                return generate();
+            }
+        }
+        long start = System.nanoTime();
+        boolean contended = stats.enter();
+        try {
+            synchronized (this) {
+                stats.acquired(contended, System.nanoTime() - start);
+                return generate();
+            }
+        } finally {
+            stats.exit();
+        }
+    }
+
+    /**
+     * Fills array range with consequent ULIDs acquiring the lock only once.
+     * <p>
+     * Cheaper than calling {@link #next()} for every element when many ULIDs are needed at once.
+     * If entropy overflows, exception is thrown and the range is filled only partially.
+     * @param dst array to fill
+     * @param fromIndex first index to fill, inclusive
+     * @param toIndex last index to fill, exclusive
+     */
+    public void fill(ULID[] dst, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, dst.length);
+        if (stats == null) {
+            synchronized (this) {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    dst[i] = generate();
+                }
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        boolean contended = stats.enter();
+        try {
+            synchronized (this) {
+                stats.acquired(contended, System.nanoTime() - start);
+                for (int i = fromIndex; i < toIndex; i++) {
+                    dst[i] = generate();
+                }
+            }
+        } finally {
+            stats.exit();
+        }
+    }
+
+    /**
+     * Returns generation counters, all zeros if generator is not instrumented.
+     */
+    public ULIDGeneratorMetrics getMetrics() {
+        return stats != null ? stats : MonotonicULIDStats.DISABLED;
     }
 
-    public synchronized ULID next() {
+    private ULID generate() {
         long now = System.currentTimeMillis();
         if (lastTime == now) {
             // Entropy is big-endian (network byte order) per ULID spec
@@ -43,12 +115,28 @@ public class MonotonicULID {
             }
             // Last byte has carry over
             if (carry) {
+                if (stats != null) {
+                    stats.overflow();
+                }
+                ULIDEvents.entropyOverflow(now);
                 // Throw error if entropy overflows in same millisecond per ULID spec
                 throw new IllegalStateException("ULID entropy overflowed for same millisecond");
             }
+            if (stats != null) {
+                stats.increment();
+            }
         } else {
+            if (now < lastTime) {
+                if (stats != null) {
+                    stats.clockRegression();
+                }
+                ULIDEvents.clockRegression(lastTime, now);
+            }
             this.lastTime = now;
             this.random.nextBytes(this.lastEntropy);
+            if (stats != null) {
+                stats.newMillis();
+            }
         }
         return ULID.generate(now, this.lastEntropy);
     }
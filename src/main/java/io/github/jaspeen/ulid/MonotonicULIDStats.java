@@ -0,0 +1,118 @@
+package io.github.jaspeen.ulid;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of monotonic generator, updated only when instrumentation is enabled.
+ */
+final class MonotonicULIDStats implements ULIDGeneratorMetrics {
+    /**
+     * Metrics of not instrumented generator, always zero.
+     */
+    static final MonotonicULIDStats DISABLED = new MonotonicULIDStats();
+
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder increments = new LongAdder();
+    private final LongAccumulator maxBurst = new LongAccumulator(Long::max, 0);
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder contendedNanos = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder clockRegressions = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // current burst, only for generators updating stats under a lock
+    private final AtomicLong burst = new AtomicLong();
+
+    /**
+     * Called before acquiring generator lock.
+     * @return true if another thread is generating at the moment
+     */
+    boolean enter() {
+        return inFlight.getAndIncrement() > 0;
+    }
+
+    /**
+     * Called after generator lock is acquired.
+     */
+    void acquired(boolean wasContended, long waitedNanos) {
+        if (wasContended) {
+            contended.increment();
+            contendedNanos.add(waitedNanos);
+        }
+    }
+
+    void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    void newMillis() {
+        burst.set(1);
+        newMillis(1L);
+    }
+
+    /**
+     * @param burst number of ULIDs generated in the current millisecond, tracked by the caller
+     */
+    void newMillis(long burst) {
+        generated.increment();
+        maxBurst.accumulate(burst);
+    }
+
+    void increment() {
+        increment(burst.incrementAndGet());
+    }
+
+    /**
+     * @param burst number of ULIDs generated in the current millisecond, tracked by the caller
+     */
+    void increment(long burst) {
+        generated.increment();
+        increments.increment();
+        maxBurst.accumulate(burst);
+    }
+
+    void overflow() {
+        overflows.increment();
+    }
+
+    void clockRegression() {
+        clockRegressions.increment();
+    }
+
+    @Override
+    public long getGenerated() {
+        return generated.sum();
+    }
+
+    @Override
+    public long getIncrements() {
+        return increments.sum();
+    }
+
+    @Override
+    public long getMaxSameMillisBurst() {
+        return maxBurst.get();
+    }
+
+    @Override
+    public long getContended() {
+        return contended.sum();
+    }
+
+    @Override
+    public long getContendedNanos() {
+        return contendedNanos.sum();
+    }
+
+    @Override
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+    @Override
+    public long getClockRegressions() {
+        return clockRegressions.sum();
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.jaspeen.ulid;
+
+import java.util.Objects;
+
+/**
+ * Mutable ULID holder for processing loops which inspect and discard many IDs.
+ * <p>
+ * Mirrors read API of {@link ULID}, but can be reused for every processed value, so no object is created per ID.
+ * Convert to {@link ULID} with {@link #toULID()} only for values which need to be kept.
+ * <p>
+ * <i>This class is not thread safe and must not be used as a key in hash based collections</i>
+ * <p>
+ * Usage:
+ * <pre>
+ *     MutableULID ulid = new MutableULID();
+ *     for (String id : ids) {
+ *         if (ulid.parse(id).getTimestamp() &gt; cutoff) {
+ *             result.add(ulid.toULID());
+ *         }
+ *     }
+ *
+ *     scanner.scan(file, (msb, lsb) -&gt; process(ulid.set(msb, lsb)));
+ * </pre>
+ */
+public final class MutableULID implements Comparable<MutableULID> {
+    private long msb;
+    private long lsb;
+
+    public MutableULID() {
+    }
+
+    public MutableULID(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
+    }
+
+    public MutableULID set(long msb, long lsb) {
+        this.msb = msb;
+        this.lsb = lsb;
+        return this;
+    }
+
+    public MutableULID set(ULID ulid) {
+        return set(ulid.getMsb(), ulid.getLsb());
+    }
+
+    /**
+     * Parse value from string representation
+     * @param val 26-character string of Crockford Base32
+     */
+    public MutableULID parse(CharSequence val) {
+        if (val.length() != ULID.STR_LENGTH) {
+            throw new IllegalArgumentException("Invalid ULID string");
+        }
+        return set(ULID.decodeMsb(val), ULID.decodeLsb(val));
+    }
+
+    /**
+     * Read value from 16 bytes binary representation starting at offset
+     */
+    public MutableULID setBytes(byte[] src, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.BIN_LENGTH, src.length);
+        return set(ULID.bytesToLong(src, offset), ULID.bytesToLong(src, offset + 8));
+    }
+
+    /**
+     * Returns 64 most significant bits of 128bit binary representation.
+     */
+    public long getMsb() {
+        return msb;
+    }
+
+    /**
+     * Returns 64 least significant bits of 128bit binary representation.
+     */
+    public long getLsb() {
+        return lsb;
+    }
+
+    /**
+     * Returns the timestamp part of the ULID as a long.
+     */
+    public long getTimestamp() {
+        return msb >>> 16;
+    }
+
+    /**
+     * Writes 10 bytes of entropy to provided array starting at offset.
+     */
+    public void getEntropy(byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.ENTROPY_LENGTH, dst.length);
+        ULID.entropyToBytes(msb, lsb, dst, offset);
+    }
+
+    /**
+     * Writes 16 bytes binary representation to provided array starting at offset.
+     */
+    public void toBytes(byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.BIN_LENGTH, dst.length);
+        ULID.longToBytes(msb, dst, offset);
+        ULID.longToBytes(lsb, dst, offset + 8);
+    }
+
+    /**
+     * Writes Crockford's base32 encoded value (26 characters) to provided array starting at offset.
+     */
+    public void toChars(char[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ULID.STR_LENGTH, dst.length);
+        ULID.encode(msb, lsb, dst, offset);
+    }
+
+    /**
+     * Returns immutable copy of current value.
+     */
+    public ULID toULID() {
+        return new ULID(msb, lsb);
+    }
+
+    @Override
+    public int compareTo(MutableULID val) {
+        int res = Long.compareUnsigned(this.msb, val.msb);
+        return res != 0 ? res : Long.compareUnsigned(this.lsb, val.lsb);
+    }
+
+    public int compareTo(ULID val) {
+        int res = Long.compareUnsigned(this.msb, val.getMsb());
+        return res != 0 ? res : Long.compareUnsigned(this.lsb, val.getLsb());
+    }
+
+    /**
+     * Checks if current value is equal to provided ULID.
+     */
+    public boolean equalsTo(ULID val) {
+        return val != null && msb == val.getMsb() && lsb == val.getLsb();
+    }
+
+    @Override
+    public int hashCode() {
+        long hilo = msb ^ lsb;
+        return ((int) (hilo >> 32)) ^ (int) hilo;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ((null == obj) || (obj.getClass() != MutableULID.class))
+            return false;
+        MutableULID other = (MutableULID) obj;
+        return msb == other.msb && lsb == other.lsb;
+    }
+
+    /**
+     * Returns current value as Crockford's base32 encoded string (26 characters).
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[ULID.STR_LENGTH];
+        ULID.encode(msb, lsb, chars, 0);
+        return new String(chars);
+    }
+}
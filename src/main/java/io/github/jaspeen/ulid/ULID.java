@@ -1,9 +1,18 @@
 package io.github.jaspeen.ulid;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Universally Unique Lexicographically Sortable Identifier
@@ -74,7 +83,10 @@ public class ULID implements Serializable, Comparable<ULID>{
             0x52, 0x53, 0x54, 0x56, 0x57, 0x58, 0x59, 0x5a  //
     };
 
-    private static final byte[] V = new byte[]{ //
+    /**
+     * Crockford Base32 decoding table for ASCII characters, 0xff for invalid ones
+     */
+    static final byte[] V = new byte[]{ //
          (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, // 3
          (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, // 7
          (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, // 11
@@ -108,6 +120,12 @@ public class ULID implements Serializable, Comparable<ULID>{
          (byte) 0x1d, (byte) 0x1e, (byte) 0x1f, (byte) 0xff, // 123
          (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff};// 127
 
+    /**
+     * Big-endian long views used to read and write binary representation in bulk
+     */
+    private static final VarHandle ARRAY_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle BUFFER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
     /**
      * * <pre>
      * 0                   1                   2                   3
@@ -158,39 +176,51 @@ public class ULID implements Serializable, Comparable<ULID>{
      */
     @Override
     public String toString() {
-        char[] chars = new char[26];
+        char[] chars = new char[STR_LENGTH];
+        encode(msb, lsb, chars, 0);
+        return new String(chars);
+    }
 
+    /**
+     * Writes Crockford's base32 encoded ULID (26 characters) to provided array starting at offset.
+     * <p>
+     * Allows to encode ULID without creating a String, e.g. directly into output buffers.
+     */
+    public void toChars(char[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, STR_LENGTH, dst.length);
+        encode(msb, lsb, dst, offset);
+    }
+
+    static void encode(long msb, long lsb, char[] chars, int o) {
         // time
-        chars[0] = C[(byte) (((msb >>> 56 & 0xff) >>> 5) & 0x1f)];
-        chars[1] = C[(byte) (msb >>> 56 & 0x1f)];
-        chars[2] = C[(byte) ((msb >>> 48 & 0xff) >>> 3)];
-        chars[3] = C[(byte) ((((msb >>> 48 & 0xff) << 2) | ((msb >>> 40 & 0xff) >>> 6)) & 0x1f)];
-        chars[4] = C[(byte) (((msb >>> 40 & 0xff) >>> 1) & 0x1f)];
-        chars[5] = C[(byte) ((((msb >>> 40 & 0xff) << 4) | ((msb >>> 32 & 0xff) >>> 4)) & 0x1f)];
-        chars[6] = C[(byte) ((((msb >>> 32 & 0xff) << 1) | ((msb >>> 24 & 0xff) >>> 7)) & 0x1f)];
-        chars[7] = C[(byte) (((msb >>> 24 & 0xff) >>> 2) & 0x1f)];
-        chars[8] = C[(byte) ((((msb >>> 24 & 0xff) << 3) | ((msb >>> 16 & 0xff) >>> 5)) & 0x1f)];
-        chars[9] = C[(byte) (msb >>> 16 & 0x1f)];
+        chars[o] = C[(byte) (((msb >>> 56 & 0xff) >>> 5) & 0x1f)];
+        chars[o + 1] = C[(byte) (msb >>> 56 & 0x1f)];
+        chars[o + 2] = C[(byte) ((msb >>> 48 & 0xff) >>> 3)];
+        chars[o + 3] = C[(byte) ((((msb >>> 48 & 0xff) << 2) | ((msb >>> 40 & 0xff) >>> 6)) & 0x1f)];
+        chars[o + 4] = C[(byte) (((msb >>> 40 & 0xff) >>> 1) & 0x1f)];
+        chars[o + 5] = C[(byte) ((((msb >>> 40 & 0xff) << 4) | ((msb >>> 32 & 0xff) >>> 4)) & 0x1f)];
+        chars[o + 6] = C[(byte) ((((msb >>> 32 & 0xff) << 1) | ((msb >>> 24 & 0xff) >>> 7)) & 0x1f)];
+        chars[o + 7] = C[(byte) (((msb >>> 24 & 0xff) >>> 2) & 0x1f)];
+        chars[o + 8] = C[(byte) ((((msb >>> 24 & 0xff) << 3) | ((msb >>> 16 & 0xff) >>> 5)) & 0x1f)];
+        chars[o + 9] = C[(byte) (msb >>> 16 & 0x1f)];
 
         // entropy
-        chars[10] = C[(byte) ((msb >>> 8 & 0xff) >>> 3)];
-        chars[11] = C[(byte) ((((msb >>> 8 & 0xff) << 2) | ((msb & 0xff) >>> 6)) & 0x1f)];
-        chars[12] = C[(byte) (((msb & 0xff) >>> 1) & 0x1f)];
-        chars[13] = C[(byte) ((((msb & 0xff) << 4) | ((lsb >>> 56 & 0xff) >>> 4)) & 0x1f)];
-        chars[14] = C[(byte) ((((lsb >>> 56 & 0xff) << 1) | ((lsb >>> 48 & 0xff) >>> 7)) & 0x1f)];
-        chars[15] = C[(byte) (((lsb >>> 48 & 0xff) >>> 2) & 0x1f)];
-        chars[16] = C[(byte) ((((lsb >>> 48 & 0xff) << 3) | ((lsb >>> 40 & 0xff) >>> 5)) & 0x1f)];
-        chars[17] = C[(byte) (lsb >>> 40 & 0x1f)];
-        chars[18] = C[(byte) ((lsb >>> 32 & 0xff) >>> 3)];
-        chars[19] = C[(byte) ((((lsb >>> 32 & 0xff) << 2) | ((lsb >>> 24 & 0xff) >>> 6)) & 0x1f)];
-        chars[20] = C[(byte) (((lsb >>> 24 & 0xff) >>> 1) & 0x1f)];
-        chars[21] = C[(byte) ((((lsb >>> 24 & 0xff) << 4) | ((lsb >>> 16 & 0xff) >>> 4)) & 0x1f)];
-        chars[22] = C[(byte) ((((lsb >>> 16 & 0xff) << 1) | ((lsb >>> 8 & 0xff) >>> 7)) & 0x1f)];
-        chars[23] = C[(byte) (((lsb >>> 8 & 0xff) >>> 2) & 0x1f)];
-        chars[24] = C[(byte) ((((lsb >>> 8 & 0xff) << 3) | ((lsb & 0xff) >>> 5)) & 0x1f)];
-        chars[25] = C[(byte) (lsb & 0x1f)];
-
-        return new String(chars);
+        chars[o + 10] = C[(byte) ((msb >>> 8 & 0xff) >>> 3)];
+        chars[o + 11] = C[(byte) ((((msb >>> 8 & 0xff) << 2) | ((msb & 0xff) >>> 6)) & 0x1f)];
+        chars[o + 12] = C[(byte) (((msb & 0xff) >>> 1) & 0x1f)];
+        chars[o + 13] = C[(byte) ((((msb & 0xff) << 4) | ((lsb >>> 56 & 0xff) >>> 4)) & 0x1f)];
+        chars[o + 14] = C[(byte) ((((lsb >>> 56 & 0xff) << 1) | ((lsb >>> 48 & 0xff) >>> 7)) & 0x1f)];
+        chars[o + 15] = C[(byte) (((lsb >>> 48 & 0xff) >>> 2) & 0x1f)];
+        chars[o + 16] = C[(byte) ((((lsb >>> 48 & 0xff) << 3) | ((lsb >>> 40 & 0xff) >>> 5)) & 0x1f)];
+        chars[o + 17] = C[(byte) (lsb >>> 40 & 0x1f)];
+        chars[o + 18] = C[(byte) ((lsb >>> 32 & 0xff) >>> 3)];
+        chars[o + 19] = C[(byte) ((((lsb >>> 32 & 0xff) << 2) | ((lsb >>> 24 & 0xff) >>> 6)) & 0x1f)];
+        chars[o + 20] = C[(byte) (((lsb >>> 24 & 0xff) >>> 1) & 0x1f)];
+        chars[o + 21] = C[(byte) ((((lsb >>> 24 & 0xff) << 4) | ((lsb >>> 16 & 0xff) >>> 4)) & 0x1f)];
+        chars[o + 22] = C[(byte) ((((lsb >>> 16 & 0xff) << 1) | ((lsb >>> 8 & 0xff) >>> 7)) & 0x1f)];
+        chars[o + 23] = C[(byte) (((lsb >>> 8 & 0xff) >>> 2) & 0x1f)];
+        chars[o + 24] = C[(byte) ((((lsb >>> 8 & 0xff) << 3) | ((lsb & 0xff) >>> 5)) & 0x1f)];
+        chars[o + 25] = C[(byte) (lsb & 0x1f)];
     }
 
     @Override
@@ -207,11 +237,13 @@ public class ULID implements Serializable, Comparable<ULID>{
         return msb == other.msb && lsb == other.lsb;
     }
 
+    /**
+     * Compares as unsigned 128-bit values, same as lexicographic order of string and binary representations.
+     */
     @Override
     public int compareTo(ULID val) {
-        return this.msb < val.msb ? -1 :
-                (this.msb > val.msb ? 1 :
-                 (Long.compare(this.lsb, val.lsb)));
+        int res = Long.compareUnsigned(this.msb, val.msb);
+        return res != 0 ? res : Long.compareUnsigned(this.lsb, val.lsb);
     }
 
     /**
@@ -263,17 +295,82 @@ public class ULID implements Serializable, Comparable<ULID>{
         };
     }
 
-    private static long bytesToLong(byte[] src, int offset) {
-        return ((long) src[offset] & 0xff) << 56
-              | ((long) src[offset + 1] & 0xff) << 48
-              | ((long) src[offset + 2] & 0xff) << 40
-              | ((long) src[offset + 3] & 0xff) << 32
-              | ((long) src[offset + 4] & 0xff) << 24
-              | ((long) src[offset + 5] & 0xff) << 16
-              | ((long) src[offset + 6] & 0xff) << 8
-              | ((long) src[offset + 7] & 0xff);
+    /**
+     * Writes 16 bytes binary representation of ULID to provided array starting at offset.
+     */
+    public void toBytes(byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, BIN_LENGTH, dst.length);
+        longToBytes(msb, dst, offset);
+        longToBytes(lsb, dst, offset + 8);
+    }
+
+    /**
+     * Writes 16 bytes binary representation of ULID to buffer at its current position, and then increments
+     * the position. Byte order of the buffer is ignored, ULID is always written as big-endian.
+     * @throws java.nio.BufferOverflowException if there are fewer than 16 bytes remaining in the buffer
+     */
+    public void toBytes(ByteBuffer dst) {
+        if (dst.remaining() < BIN_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        int pos = dst.position();
+        BUFFER_LONG.set(dst, pos, msb);
+        BUFFER_LONG.set(dst, pos + 8, lsb);
+        dst.position(pos + BIN_LENGTH);
     }
 
+    /**
+     * Writes 10 bytes of entropy to provided array starting at offset.
+     */
+    public void getEntropy(byte[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ENTROPY_LENGTH, dst.length);
+        entropyToBytes(msb, lsb, dst, offset);
+    }
+
+    /**
+     * Writes 10 bytes of entropy to buffer at its current position, and then increments the position.
+     * @throws java.nio.BufferOverflowException if there are fewer than 10 bytes remaining in the buffer
+     */
+    public void getEntropy(ByteBuffer dst) {
+        if (dst.remaining() < ENTROPY_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        dst.put((byte) (msb >> 8 & 0xff));
+        dst.put((byte) (msb & 0xff));
+        BUFFER_LONG.set(dst, dst.position(), lsb);
+        dst.position(dst.position() + 8);
+    }
+
+    /**
+     * Returns 16 most significant bits of entropy.
+     */
+    public int getEntropyHigh() {
+        return (int) (msb & 0xffff);
+    }
+
+    /**
+     * Returns 64 least significant bits of entropy, same as {@link #getLsb()}.
+     */
+    public long getEntropyLow() {
+        return lsb;
+    }
+
+    static void longToBytes(long val, byte[] dst, int offset) {
+        ARRAY_LONG.set(dst, offset, val);
+    }
+
+    /**
+     * Writes 80 bits of entropy to 10 bytes of array starting at offset
+     */
+    static void entropyToBytes(long msb, long lsb, byte[] dst, int offset) {
+        dst[offset] = (byte) (msb >> 8 & 0xff);
+        dst[offset + 1] = (byte) (msb & 0xff);
+        longToBytes(lsb, dst, offset + 2);
+    }
+
+    static long bytesToLong(byte[] src, int offset) {
+        return (long) ARRAY_LONG.get(src, offset);
+    }
 
     // factory methods
 
@@ -298,20 +395,73 @@ public class ULID implements Serializable, Comparable<ULID>{
         return noCheckGenerate(System.currentTimeMillis(), entropy);
     }
 
+    /**
+     * Returns effectively unlimited stream of ULIDs, see {@link #stream(long)}
+     */
+    public static Stream<ULID> stream() {
+        return stream(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns stream of {@code size} ULIDs.
+     * <p>
+     * ULIDs are monotonic within a single thread of sequential stream or a single split of parallel stream.
+     * Splits of parallel stream generate ULIDs independently without any locking.
+     * <p>
+     * Example:
+     * <pre>
+     *     List&lt;ULID&gt; ids = ULID.stream(1000).collect(Collectors.toList());
+     *     ULID.stream().parallel().limit(1_000_000).forEach(...);
+     * </pre>
+     */
+    public static Stream<ULID> stream(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid stream size: " + size);
+        }
+        return StreamSupport.stream(new ULIDSpliterator(size), false);
+    }
+
     /**
      * Generates ULID from raw timestamp and entropy
      * @param time 48-bit timestamp
      * @param entropy 80-bit random data
      */
     public static ULID generate(long time, byte[] entropy) {
-        if (time < MIN_TIME || time > MAX_TIME) {
-            throw new IllegalArgumentException("Invalid timestamp");
-        }
+        checkTime(time);
         if (entropy == null || entropy.length != 10) {
             throw new IllegalArgumentException("Invalid entropy");
         }
         return noCheckGenerate(time, entropy);
     }
+
+    /**
+     * Returns the smallest ULID with given timestamp, i.e. with all entropy bits unset.
+     * <p>
+     * Useful as inclusive lower bound for range queries by creation time.
+     * @param time 48-bit timestamp
+     */
+    public static ULID min(long time) {
+        checkTime(time);
+        return new ULID(time << 16, 0L);
+    }
+
+    /**
+     * Returns the largest ULID with given timestamp, i.e. with all entropy bits set.
+     * <p>
+     * Useful as inclusive upper bound for range queries by creation time.
+     * @param time 48-bit timestamp
+     */
+    public static ULID max(long time) {
+        checkTime(time);
+        return new ULID(time << 16 | 0xffffL, -1L);
+    }
+
+    private static void checkTime(long time) {
+        if (time < MIN_TIME || time > MAX_TIME) {
+            throw new IllegalArgumentException("Invalid timestamp");
+        }
+    }
+
     private static ULID noCheckGenerate(long time, byte[] entropy) {
         long msb = time << 16 | ((entropy[0] & 0xff) << 8) | (entropy[1] & 0xff);
         long lsb = bytesToLong(entropy, 2);
@@ -326,6 +476,16 @@ public class ULID implements Serializable, Comparable<ULID>{
         return res;
     }
 
+    /**
+     * 26 characters encode 130 bits, first character above 7 means the value does not fit into 128 bits
+     */
+    private static byte checkOverflow(byte first) {
+        if (first > 7) {
+            throw new IllegalArgumentException("ULID value overflows 128 bits");
+        }
+        return first;
+    }
+
     /**
      * Parse ULID from string representation
      * @param val 26-character string of Crockford Base32
@@ -363,28 +523,96 @@ public class ULID implements Serializable, Comparable<ULID>{
                 valOrFail(val.charAt(24)),
                 valOrFail(val.charAt(25))
         };
+        checkOverflow(in[0]);
+
+        return new ULID(decodeMsb(in, 0), decodeLsb(in, 0));
+    }
+
+    /**
+     * Parse ULID from Crockford Base32 characters
+     * <p>
+     * Allows to parse ULID from char buffers without creating a String.
+     * @param src array containing 26 characters of Crockford Base32 starting at offset
+     * @param offset position of the first ULID character
+     * @throws IndexOutOfBoundsException if there are fewer than 26 characters from offset
+     */
+    public static ULID fromChars(char[] src, int offset) {
+        Objects.checkFromIndexSize(offset, STR_LENGTH, src.length);
+        return new ULID(decodeMsb(src, offset), decodeLsb(src, offset));
+    }
+
+    /**
+     * Decodes 64 most significant bits from 26 characters of Crockford Base32 starting at offset without allocations
+     */
+    static long decodeMsb(char[] src, int o) {
+        long res = checkOverflow(valOrFail(src[o]));
+        for (int i = 1; i < 13; i++) {
+            res = res << 5 | valOrFail(src[o + i]);
+        }
+        return res << 1 | valOrFail(src[o + 13]) >>> 4;
+    }
 
+    /**
+     * Decodes 64 least significant bits from 26 characters of Crockford Base32 starting at offset without allocations
+     */
+    static long decodeLsb(char[] src, int o) {
+        long res = valOrFail(src[o + 13]) & 0xf;
+        for (int i = 14; i < STR_LENGTH; i++) {
+            res = res << 5 | valOrFail(src[o + i]);
+        }
+        return res;
+    }
+
+    /**
+     * Decodes 64 most significant bits from 26 characters of Crockford Base32 without allocations
+     */
+    static long decodeMsb(CharSequence val) {
+        long res = checkOverflow(valOrFail(val.charAt(0)));
+        for (int i = 1; i < 13; i++) {
+            res = res << 5 | valOrFail(val.charAt(i));
+        }
+        return res << 1 | valOrFail(val.charAt(13)) >>> 4;
+    }
+
+    /**
+     * Decodes 64 least significant bits from 26 characters of Crockford Base32 without allocations
+     */
+    static long decodeLsb(CharSequence val) {
+        long res = valOrFail(val.charAt(13)) & 0xf;
+        for (int i = 14; i < STR_LENGTH; i++) {
+            res = res << 5 | valOrFail(val.charAt(i));
+        }
+        return res;
+    }
+
+    /**
+     * Decodes 64 most significant bits from 26 Crockford Base32 values (not characters) starting at offset
+     */
+    static long decodeMsb(byte[] in, int o) {
         // Timestamp
-        long msb = (long) ((in[0] << 5) | in[1]) << 56
-                   | (long) ((in[2]<< 3) | (in[3] & 0xff) >>> 2) << 48
-                   | (long) ((in[3]<< 6) | in[4]<< 1 | (in[5]& 0xff) >>> 4) << 40
-                   | (long) ((in[5]<< 4) | (in[6]& 0xff) >>> 1) << 32
-                   | (long) ((in[6]<< 7) | in[7]<< 2 | (in[8]& 0xff) >>> 3) << 24
-                   | (long) ((in[8]<< 5)  | in[9]) << 16
+        return (long) ((in[o] << 5) | in[o + 1]) << 56
+                   | (long) ((in[o + 2] << 3) | (in[o + 3] & 0xff) >>> 2) << 48
+                   | (long) ((in[o + 3] << 6) | in[o + 4] << 1 | (in[o + 5] & 0xff) >>> 4) << 40
+                   | (long) ((in[o + 5] << 4) | (in[o + 6] & 0xff) >>> 1) << 32
+                   | (long) ((in[o + 6] << 7) | in[o + 7] << 2 | (in[o + 8] & 0xff) >>> 3) << 24
+                   | (long) ((in[o + 8] << 5) | in[o + 9]) << 16
         // Entropy
-                   | (long) ((in[10]<< 3) | (in[11]& 0xff) >>> 2) << 8
-                   | ((in[11]<< 6) | in[12]<< 1 | (in[13]& 0xff) >>> 4);
-
-        long lsb = (long) ((in[13]<< 4) | (in[14]& 0xff) >>> 1) << 56
-                   | (long) ((in[14]<< 7) | in[15]<< 2 | (in[16]& 0xff) >>> 3) << 48
-                   | (long) ((in[16]<< 5) | in[17]) << 40
-                   | (long) ((in[18]<< 3) | (in[19]& 0xff) >>> 2) << 32
-                   | (long) ((in[19]<< 6) | in[20]<< 1 | (in[21]& 0xff) >>> 4) << 24
-                   | (long) ((in[21]<< 4) | (in[22]& 0xff) >>> 1) << 16
-                   | (long) ((in[22]<< 7) | in[23]<< 2 | (in[24]& 0xff) >>> 3) << 8
-                   | ((in[24]<< 5) | in[25]);
+                   | (long) ((in[o + 10] << 3) | (in[o + 11] & 0xff) >>> 2) << 8
+                   | ((in[o + 11] << 6) | in[o + 12] << 1 | (in[o + 13] & 0xff) >>> 4);
+    }
 
-        return new ULID(msb, lsb);
+    /**
+     * Decodes 64 least significant bits from 26 Crockford Base32 values (not characters) starting at offset
+     */
+    static long decodeLsb(byte[] in, int o) {
+        return (long) ((in[o + 13] << 4) | (in[o + 14] & 0xff) >>> 1) << 56
+                   | (long) ((in[o + 14] << 7) | in[o + 15] << 2 | (in[o + 16] & 0xff) >>> 3) << 48
+                   | (long) ((in[o + 16] << 5) | in[o + 17]) << 40
+                   | (long) ((in[o + 18] << 3) | (in[o + 19] & 0xff) >>> 2) << 32
+                   | (long) ((in[o + 19] << 6) | in[o + 20] << 1 | (in[o + 21] & 0xff) >>> 4) << 24
+                   | (long) ((in[o + 21] << 4) | (in[o + 22] & 0xff) >>> 1) << 16
+                   | (long) ((in[o + 22] << 7) | in[o + 23] << 2 | (in[o + 24] & 0xff) >>> 3) << 8
+                   | ((in[o + 24] << 5) | in[o + 25]);
     }
 
     /**
@@ -400,6 +628,33 @@ public class ULID implements Serializable, Comparable<ULID>{
         return new ULID(msb, lsb);
     }
 
+    /**
+     * Construct ULID from raw bytes starting at offset
+     * @param v array containing 16 bytes binary data starting at offset
+     * @param offset position of the first byte
+     * @throws IndexOutOfBoundsException if there are fewer than 16 bytes from offset
+     */
+    public static ULID fromBytes(byte[] v, int offset) {
+        Objects.checkFromIndexSize(offset, BIN_LENGTH, v.length);
+        return new ULID(bytesToLong(v, offset), bytesToLong(v, offset + 8));
+    }
+
+    /**
+     * Construct ULID from 16 bytes of buffer at its current position, and then increments the position.
+     * Byte order of the buffer is ignored, ULID is always read as big-endian.
+     * @throws java.nio.BufferUnderflowException if there are fewer than 16 bytes remaining in the buffer
+     */
+    public static ULID fromBytes(ByteBuffer src) {
+        if (src.remaining() < BIN_LENGTH) {
+            throw new BufferUnderflowException();
+        }
+        int pos = src.position();
+        long msb = (long) BUFFER_LONG.get(src, pos);
+        long lsb = (long) BUFFER_LONG.get(src, pos + 8);
+        src.position(pos + BIN_LENGTH);
+        return new ULID(msb, lsb);
+    }
+
     /**
      * Construct ULID from UUID by direct bytes copy
      */
@@ -0,0 +1,372 @@
+package io.github.jaspeen.ulid;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk operations on ULIDs packed into {@code long[]} arrays.
+ * <p>
+ * Packed layout stores every ULID as two consecutive longs, msb followed by lsb:
+ * <pre>
+ *     [msb0, lsb0, msb1, lsb1, ...]
+ * </pre>
+ * Working on packed arrays avoids an object per ID, which matters when sorting hundreds of millions of them.
+ * Sort order is the same as {@link ULID#compareTo(ULID)} and lexicographic order of the string representation.
+ * <p>
+ * Usage:
+ * <pre>
+ *     long[] packed = ULIDArrays.pack(ulids);
+ *     int unique = ULIDArrays.parallelSortUnique(packed);
+ *     ULID first = ULIDArrays.get(packed, 0);
+ * </pre>
+ */
+public final class ULIDArrays {
+    /**
+     * Number of buckets produced by one radix split step.
+     */
+    private static final int RADIX_BITS = 12;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    /**
+     * Ranges with fewer ULIDs than this are sorted sequentially.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    /**
+     * Minimum number of ULIDs handled by a single histogram/scatter chunk.
+     */
+    private static final int CHUNK_THRESHOLD = 1 << 16;
+
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private ULIDArrays() {
+    }
+
+    /**
+     * Packs ULIDs into a new array of msb/lsb pairs.
+     */
+    public static long[] pack(ULID[] ulids) {
+        long[] packed = new long[ulids.length * 2];
+        for (int i = 0; i < ulids.length; i++) {
+            packed[i * 2] = ulids[i].getMsb();
+            packed[i * 2 + 1] = ulids[i].getLsb();
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks first {@code count} ULIDs of packed array.
+     */
+    public static ULID[] unpack(long[] packed, int count) {
+        checkPacked(packed);
+        if (count < 0 || count > packed.length / 2) {
+            throw new IllegalArgumentException("Invalid ULID count: " + count);
+        }
+        ULID[] res = new ULID[count];
+        for (int i = 0; i < count; i++) {
+            res[i] = new ULID(packed[i * 2], packed[i * 2 + 1]);
+        }
+        return res;
+    }
+
+    /**
+     * Returns ULID stored at {@code index} of packed array.
+     */
+    public static ULID get(long[] packed, int index) {
+        return new ULID(packed[index * 2], packed[index * 2 + 1]);
+    }
+
+    /**
+     * Sorts packed ULIDs in place using the common fork/join pool.
+     */
+    public static void parallelSort(long[] packed) {
+        parallelSort(packed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts packed ULIDs in place using provided fork/join pool.
+     * <p>
+     * Array is split into buckets by the most significant bits (timestamp first) and buckets are sorted in parallel.
+     * Requires a temporary array of the same size.
+     */
+    public static void parallelSort(long[] packed, ForkJoinPool pool) {
+        checkPacked(packed);
+        int n = packed.length / 2;
+        if (n < SEQUENTIAL_THRESHOLD || pool.getParallelism() == 1) {
+            sort(packed, 0, n);
+            return;
+        }
+        pool.invoke(new SortTask(packed, new long[packed.length], 0, n, false));
+    }
+
+    /**
+     * Sorts packed ULIDs and removes duplicates using the common fork/join pool.
+     * @return number of unique ULIDs, which are stored in the beginning of the array
+     */
+    public static int parallelSortUnique(long[] packed) {
+        return parallelSortUnique(packed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts packed ULIDs and removes duplicates using provided fork/join pool.
+     * @return number of unique ULIDs, which are stored in the beginning of the array
+     */
+    public static int parallelSortUnique(long[] packed, ForkJoinPool pool) {
+        parallelSort(packed, pool);
+        return unique(packed, packed.length / 2);
+    }
+
+    /**
+     * Removes consecutive duplicates from first {@code count} ULIDs of a sorted packed array.
+     * @return number of unique ULIDs, which are stored in the beginning of the array
+     */
+    static int unique(long[] packed, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        int w = 1;
+        long lastMsb = packed[0];
+        long lastLsb = packed[1];
+        for (int r = 1; r < count; r++) {
+            long msb = packed[r * 2];
+            long lsb = packed[r * 2 + 1];
+            if (msb != lastMsb || lsb != lastLsb) {
+                packed[w * 2] = msb;
+                packed[w * 2 + 1] = lsb;
+                lastMsb = msb;
+                lastLsb = lsb;
+                w++;
+            }
+        }
+        return w;
+    }
+
+    private static void checkPacked(long[] packed) {
+        if ((packed.length & 1) != 0) {
+            throw new IllegalArgumentException("Invalid packed ULID array length: " + packed.length);
+        }
+    }
+
+    /**
+     * Radix split of [from, to) by msb followed by parallel sort of buckets.
+     * Every task owns the same region in {@code a} and {@code tmp}; {@code a} always holds the result.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final long[] a;
+        private final long[] tmp;
+        private final int from;
+        private final int to;
+        private final boolean inTmp;
+
+        SortTask(long[] a, long[] tmp, int from, int to, boolean inTmp) {
+            this.a = a;
+            this.tmp = tmp;
+            this.from = from;
+            this.to = to;
+            this.inTmp = inTmp;
+        }
+
+        @Override
+        protected void compute() {
+            if (inTmp) {
+                // bucket was scattered into tmp, bring it back before sorting
+                System.arraycopy(tmp, from * 2, a, from * 2, (to - from) * 2);
+            }
+            int n = to - from;
+            if (n < SEQUENTIAL_THRESHOLD) {
+                sort(a, from, to);
+                return;
+            }
+
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                // flip sign bit so that signed comparison gives unsigned order
+                long key = a[i * 2] ^ Long.MIN_VALUE;
+                if (key < min) min = key;
+                if (key > max) max = key;
+            }
+            if (min == max) {
+                // all msb are equal, nothing to split by
+                sort(a, from, to);
+                return;
+            }
+            long range = max - min;
+            int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(range) - RADIX_BITS);
+
+            int chunks = Math.max(1, Math.min(n / CHUNK_THRESHOLD, getPool().getParallelism() * 4));
+            int[][] counts = new int[chunks][];
+            HistogramTask[] histograms = new HistogramTask[chunks];
+            for (int c = 0; c < chunks; c++) {
+                histograms[c] = new HistogramTask(a, chunkStart(c, chunks), chunkStart(c + 1, chunks), min, shift);
+            }
+            invokeAll(histograms);
+            for (int c = 0; c < chunks; c++) {
+                counts[c] = histograms[c].counts;
+            }
+
+            // turn per-chunk counts into per-chunk write offsets
+            int[] bucketStart = new int[BUCKETS + 1];
+            int pos = from;
+            for (int b = 0; b < BUCKETS; b++) {
+                bucketStart[b] = pos;
+                for (int c = 0; c < chunks; c++) {
+                    int cnt = counts[c][b];
+                    counts[c][b] = pos;
+                    pos += cnt;
+                }
+            }
+            bucketStart[BUCKETS] = to;
+
+            ScatterTask[] scatters = new ScatterTask[chunks];
+            for (int c = 0; c < chunks; c++) {
+                scatters[c] = new ScatterTask(a, tmp, chunkStart(c, chunks), chunkStart(c + 1, chunks), min, shift,
+                                              counts[c]);
+            }
+            invokeAll(scatters);
+
+            int tasks = 0;
+            SortTask[] sorts = new SortTask[BUCKETS];
+            for (int b = 0; b < BUCKETS; b++) {
+                int bFrom = bucketStart[b];
+                int bTo = bucketStart[b + 1];
+                if (bTo > bFrom) {
+                    sorts[tasks++] = new SortTask(a, tmp, bFrom, bTo, true);
+                }
+            }
+            invokeAll(Arrays.asList(sorts).subList(0, tasks));
+        }
+
+        private int chunkStart(int chunk, int chunks) {
+            return from + (int) ((long) (to - from) * chunk / chunks);
+        }
+    }
+
+    private static final class HistogramTask extends RecursiveAction {
+        private final long[] a;
+        private final int from;
+        private final int to;
+        private final long min;
+        private final int shift;
+        int[] counts;
+
+        HistogramTask(long[] a, int from, int to, long min, int shift) {
+            this.a = a;
+            this.from = from;
+            this.to = to;
+            this.min = min;
+            this.shift = shift;
+        }
+
+        @Override
+        protected void compute() {
+            int[] res = new int[BUCKETS];
+            for (int i = from; i < to; i++) {
+                res[(int) (((a[i * 2] ^ Long.MIN_VALUE) - min) >>> shift)]++;
+            }
+            counts = res;
+        }
+    }
+
+    private static final class ScatterTask extends RecursiveAction {
+        private final long[] src;
+        private final long[] dst;
+        private final int from;
+        private final int to;
+        private final long min;
+        private final int shift;
+        private final int[] offsets;
+
+        ScatterTask(long[] src, long[] dst, int from, int to, long min, int shift, int[] offsets) {
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+            this.min = min;
+            this.shift = shift;
+            this.offsets = offsets;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                long msb = src[i * 2];
+                int b = (int) (((msb ^ Long.MIN_VALUE) - min) >>> shift);
+                int p = offsets[b]++;
+                dst[p * 2] = msb;
+                dst[p * 2 + 1] = src[i * 2 + 1];
+            }
+        }
+    }
+
+    // sequential sort of pairs
+
+    private static int compare(long[] a, int i, int j) {
+        int c = Long.compareUnsigned(a[i * 2], a[j * 2]);
+        return c != 0 ? c : Long.compareUnsigned(a[i * 2 + 1], a[j * 2 + 1]);
+    }
+
+    private static int compare(long[] a, int i, long msb, long lsb) {
+        int c = Long.compareUnsigned(a[i * 2], msb);
+        return c != 0 ? c : Long.compareUnsigned(a[i * 2 + 1], lsb);
+    }
+
+    private static void swap(long[] a, int i, int j) {
+        long m = a[i * 2];
+        long l = a[i * 2 + 1];
+        a[i * 2] = a[j * 2];
+        a[i * 2 + 1] = a[j * 2 + 1];
+        a[j * 2] = m;
+        a[j * 2 + 1] = l;
+    }
+
+    /**
+     * Sequential three-way quicksort of pairs in [from, to), duplicates are grouped in one pass.
+     */
+    static void sort(long[] a, int from, int to) {
+        while (to - from > INSERTION_THRESHOLD) {
+            int mid = (from + to) >>> 1;
+            // median of three as pivot
+            if (compare(a, mid, from) < 0) swap(a, mid, from);
+            if (compare(a, to - 1, from) < 0) swap(a, to - 1, from);
+            if (compare(a, to - 1, mid) < 0) swap(a, to - 1, mid);
+            long pMsb = a[mid * 2];
+            long pLsb = a[mid * 2 + 1];
+
+            int lt = from;
+            int gt = to - 1;
+            int i = from;
+            while (i <= gt) {
+                int c = compare(a, i, pMsb, pLsb);
+                if (c < 0) {
+                    swap(a, lt++, i++);
+                } else if (c > 0) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            // recurse into smaller part to bound stack depth
+            if (lt - from < to - gt - 1) {
+                sort(a, from, lt);
+                from = gt + 1;
+            } else {
+                sort(a, gt + 1, to);
+                to = lt;
+            }
+        }
+        for (int i = from + 1; i < to; i++) {
+            long msb = a[i * 2];
+            long lsb = a[i * 2 + 1];
+            int j = i - 1;
+            while (j >= from && compare(a, j, msb, lsb) > 0) {
+                a[(j + 1) * 2] = a[j * 2];
+                a[(j + 1) * 2 + 1] = a[j * 2 + 1];
+                j--;
+            }
+            a[(j + 1) * 2] = msb;
+            a[(j + 1) * 2 + 1] = lsb;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package io.github.jaspeen.ulid;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of ULIDs partitioned into segments by time.
+ * <p>
+ * ULID bits are hashed directly, without converting to bytes. Every segment covers fixed time interval and contains
+ * ULIDs with timestamps from that interval, so segments for old time can be dropped as time moves on, see
+ * {@link #dropOlderThan(long)}. Segments are sized for expected number of insertions each. ULIDs older than dropped
+ * time are not added, ULIDs with timestamp more than one segment ahead of current time are rejected, so neither
+ * creates a new segment.
+ * <p>
+ * Lookups are lock-free. Inserts of the same ULID are serialized by a lock striped by ULID hash, so concurrent
+ * inserts of the same ULID return true at most once, inserts of different ULIDs rarely contend.
+ * Filter can be written to and read from compact binary format.
+ * <p>
+ * Usage:
+ * <pre>
+ *     ULIDBloomFilter seen = new ULIDBloomFilter(1_000_000, 0.01, Duration.ofHours(1).toMillis());
+ *     if (!seen.put(event.getId())) {
+ *         // probably duplicate, check database
+ *     }
+ *     seen.dropOlderThan(System.currentTimeMillis() - Duration.ofDays(1).toMillis());
+ * </pre>
+ */
+public final class ULIDBloomFilter {
+    private static final int MAGIC = 0x554c4246; // ULBF
+    private static final int VERSION = 1;
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Default maximum size of all segments accepted by {@link #readFrom(DataInput)}, 256MB.
+     */
+    public static final long DEFAULT_MAX_READ_BYTES = 256L << 20;
+
+    private final long segmentMillis;
+    private final int logBits;
+    private final int hashes;
+    private final ConcurrentSkipListMap<Long, AtomicLongArray> segments = new ConcurrentSkipListMap<>();
+    /**
+     * Segments before this one are dropped.
+     */
+    private final AtomicLong watermark = new AtomicLong();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * @param expectedInsertions expected number of ULIDs per segment
+     * @param fpp desired false positive probability when segment contains expected number of ULIDs
+     * @param segmentMillis time interval covered by one segment
+     */
+    public ULIDBloomFilter(long expectedInsertions, double fpp, long segmentMillis) {
+        this(segmentMillis, logBits(expectedInsertions, fpp), hashes(expectedInsertions, fpp));
+    }
+
+    private ULIDBloomFilter(long segmentMillis, int logBits, int hashes) {
+        if (segmentMillis <= 0) {
+            throw new IllegalArgumentException("Invalid segment duration: " + segmentMillis);
+        }
+        this.segmentMillis = segmentMillis;
+        this.logBits = logBits;
+        this.hashes = hashes;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Adds ULID to the filter.
+     * @return true if filter has changed, so ULID was definitely not added before;
+     * false if ULID was probably added before or is older than dropped time and was not added
+     * @throws IllegalArgumentException if ULID timestamp is more than one segment ahead of current time
+     */
+    public boolean put(ULID ulid) {
+        return put(ulid.getMsb(), ulid.getLsb());
+    }
+
+    /**
+     * Adds ULID provided as msb and lsb to the filter, see {@link #put(ULID)}.
+     */
+    public boolean put(long msb, long lsb) {
+        AtomicLongArray bits = segmentForUpdate(msb);
+        if (bits == null) {
+            return false;
+        }
+        long h1 = hash(msb, lsb);
+        long h2 = hash2(h1);
+        int shift = 64 - logBits;
+        boolean changed = false;
+        // other stripes update the same words, so bits are still set with CAS
+        synchronized (locks[(int) h1 & (LOCK_STRIPES - 1)]) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = (h1 + i * h2) >>> shift;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long w;
+                while (((w = bits.get(word)) & mask) == 0) {
+                    if (bits.compareAndSet(word, w, w | mask)) {
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    private AtomicLongArray segmentForUpdate(long msb) {
+        long segment = segment(msb);
+        if (segment < watermark.get()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (segment > now / segmentMillis + 1) {
+            throw new IllegalArgumentException("ULID timestamp is too far in the future: " + (msb >>> 16));
+        }
+        AtomicLongArray bits = segments.computeIfAbsent(segment, k -> new AtomicLongArray(1 << (logBits - 6)));
+        if (segment < watermark.get()) {
+            // dropped concurrently, do not leave recreated segment behind
+            segments.remove(segment, bits);
+            return null;
+        }
+        return bits;
+    }
+
+    /**
+     * Checks if ULID might have been added.
+     * @return false if ULID was definitely not added or its segment was dropped, true if it probably was added
+     */
+    public boolean mightContain(ULID ulid) {
+        return mightContain(ulid.getMsb(), ulid.getLsb());
+    }
+
+    /**
+     * Checks if ULID provided as msb and lsb might have been added, see {@link #mightContain(ULID)}.
+     */
+    public boolean mightContain(long msb, long lsb) {
+        AtomicLongArray bits = segments.get(segment(msb));
+        if (bits == null) {
+            return false;
+        }
+        long h1 = hash(msb, lsb);
+        long h2 = hash2(h1);
+        int shift = 64 - logBits;
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) >>> shift;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops segments which contain only ULIDs with timestamps before provided time.
+     * @param time epoch millis
+     * @return number of dropped segments
+     */
+    public int dropOlderThan(long time) {
+        if (time <= 0) {
+            return 0;
+        }
+        int res = 0;
+        // segment containing time is kept
+        long limit = watermark.accumulateAndGet(time / segmentMillis, Math::max);
+        while (segments.headMap(limit).pollFirstEntry() != null) {
+            res++;
+        }
+        return res;
+    }
+
+    /**
+     * Number of segments.
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Number of bits in every segment.
+     */
+    public long getSegmentBits() {
+        return 1L << logBits;
+    }
+
+    /**
+     * Number of hash functions.
+     */
+    public int getHashCount() {
+        return hashes;
+    }
+
+    /**
+     * Writes filter in binary format. Inserts concurrent with writing may be partially written.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(segmentMillis);
+        out.writeByte(logBits);
+        out.writeByte(hashes);
+        out.writeLong(watermark.get());
+        Map<Long, AtomicLongArray> snapshot = segments.clone();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<Long, AtomicLongArray> entry : snapshot.entrySet()) {
+            out.writeLong(entry.getKey());
+            AtomicLongArray bits = entry.getValue();
+            for (int i = 0; i < bits.length(); i++) {
+                out.writeLong(bits.get(i));
+            }
+        }
+    }
+
+    /**
+     * Reads filter written by {@link #writeTo(DataOutput)}, limiting size of all segments to
+     * {@link #DEFAULT_MAX_READ_BYTES}.
+     * @throws IOException if data is not a valid filter or is too large
+     */
+    public static ULIDBloomFilter readFrom(DataInput in) throws IOException {
+        return readFrom(in, DEFAULT_MAX_READ_BYTES);
+    }
+
+    /**
+     * Reads filter written by {@link #writeTo(DataOutput)}.
+     * @param maxBytes maximum size of all segments, checked before they are allocated
+     * @throws IOException if data is not a valid filter or is larger than maxBytes
+     */
+    public static ULIDBloomFilter readFrom(DataInput in, long maxBytes) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a ULID bloom filter");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported ULID bloom filter version: " + version);
+        }
+        long segmentMillis = in.readLong();
+        int logBits = in.readUnsignedByte();
+        int hashes = in.readUnsignedByte();
+        long watermark = in.readLong();
+        int count = in.readInt();
+        if (segmentMillis <= 0 || logBits < 6 || logBits > 36 || hashes == 0 || watermark < 0 || count < 0) {
+            throw new IOException("Invalid ULID bloom filter header");
+        }
+        long segmentBytes = 1L << (logBits - 3);
+        if (segmentBytes > maxBytes || count > maxBytes / segmentBytes) {
+            throw new IOException("ULID bloom filter is too large: " + count + " segments of " + segmentBytes
+                                  + " bytes, limit is " + maxBytes + " bytes");
+        }
+        ULIDBloomFilter res = new ULIDBloomFilter(segmentMillis, logBits, hashes);
+        res.watermark.set(watermark);
+        for (int s = 0; s < count; s++) {
+            long key = in.readLong();
+            AtomicLongArray bits = new AtomicLongArray(1 << (logBits - 6));
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, in.readLong());
+            }
+            res.segments.put(key, bits);
+        }
+        return res;
+    }
+
+    private static long bits(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Invalid expected insertions: " + expectedInsertions);
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("Invalid false positive probability: " + fpp);
+        }
+        return (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static int logBits(long expectedInsertions, double fpp) {
+        long bits = bits(expectedInsertions, fpp);
+        // power of 2 number of bits, at least one long, at most what fits into long array
+        int res = Math.max(6, 64 - Long.numberOfLeadingZeros(bits - 1));
+        if (res > 36) {
+            throw new IllegalArgumentException("Segment is too large: " + bits + " bits");
+        }
+        return res;
+    }
+
+    private static int hashes(long expectedInsertions, double fpp) {
+        // optimal for requested size, rounding size up to power of 2 only lowers false positive rate
+        double bitsPerInsertion = (double) bits(expectedInsertions, fpp) / expectedInsertions;
+        return (int) Math.min(255, Math.max(1, Math.round(bitsPerInsertion * Math.log(2))));
+    }
+
+    private long segment(long msb) {
+        return (msb >>> 16) / segmentMillis;
+    }
+
+    private static long hash(long msb, long lsb) {
+        // timestamp is shared by many ULIDs and entropy may be monotonic, so mix all bits
+        return mix(msb * 0x9e3779b97f4a7c15L ^ lsb);
+    }
+
+    private static long hash2(long h1) {
+        // second hash for double hashing, odd to never be zero
+        return mix(h1 ^ 0xbf58476d1ce4e5b9L) | 1L;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
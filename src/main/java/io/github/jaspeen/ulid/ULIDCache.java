@@ -0,0 +1,159 @@
+package io.github.jaspeen.ulid;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of canonical {@link ULID} instances for frequently repeated IDs.
+ * <p>
+ * Returns the same instance for the same value while it stays in the cache, so repeatedly parsed hot IDs do not
+ * create new objects. Cache is set-associative with CLOCK eviction inside every set, lookups and inserts are lock-free
+ * and a hit does not allocate.
+ * <p>
+ * <i>Canonicalization is best effort: concurrent misses for the same value may return different (equal) instances</i>
+ * <p>
+ * Usage:
+ * <pre>
+ *     ULIDCache cache = new ULIDCache(100_000);
+ *     ULID ulid = cache.get("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+ *     cache.getHitRate();
+ * </pre>
+ */
+public final class ULIDCache {
+    /**
+     * Number of entries in a set, a value can only be stored in the set selected by its hash.
+     */
+    private static final int WAYS = 8;
+
+    private final AtomicReferenceArray<ULID> entries;
+    private final AtomicIntegerArray referenced;
+    private final AtomicIntegerArray hands;
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity maximum number of cached instances, rounded up to power of 2
+     */
+    public ULIDCache(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        this.entries = new AtomicReferenceArray<>(size);
+        this.referenced = new AtomicIntegerArray(size);
+        this.hands = new AtomicIntegerArray(size / WAYS);
+        this.setMask = size / WAYS - 1;
+    }
+
+    /**
+     * Returns canonical instance for provided msb and lsb.
+     */
+    public ULID get(long msb, long lsb) {
+        int set = set(msb, lsb);
+        ULID res = find(set, msb, lsb);
+        if (res == null) {
+            res = new ULID(msb, lsb);
+            insert(set, res);
+        }
+        return res;
+    }
+
+    /**
+     * Parses ULID from string representation and returns canonical instance.
+     * @param val 26-character string of Crockford Base32
+     */
+    public ULID get(CharSequence val) {
+        if (val.length() != ULID.STR_LENGTH) {
+            throw new IllegalArgumentException("Invalid ULID string");
+        }
+        return get(ULID.decodeMsb(val), ULID.decodeLsb(val));
+    }
+
+    /**
+     * Returns canonical instance equal to provided ULID, caches provided instance if there is none.
+     */
+    public ULID intern(ULID ulid) {
+        int set = set(ulid.getMsb(), ulid.getLsb());
+        ULID res = find(set, ulid.getMsb(), ulid.getLsb());
+        if (res == null) {
+            res = ulid;
+            insert(set, res);
+        }
+        return res;
+    }
+
+    /**
+     * Number of lookups which returned cached instance.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups which did not find cached instance.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Ratio of hits to all lookups, 0 if there were no lookups.
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Removes all cached instances, statistics is kept.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+            referenced.set(i, 0);
+        }
+    }
+
+    private int set(long msb, long lsb) {
+        // entropy may be not random (monotonic or hand made), so mix all bits
+        long h = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9e3779b97f4a7c15L;
+        return (int) (h >>> 32) & setMask;
+    }
+
+    private ULID find(int set, long msb, long lsb) {
+        int base = set * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            ULID entry = entries.get(i);
+            if (entry != null && entry.getMsb() == msb && entry.getLsb() == lsb) {
+                if (referenced.get(i) == 0) {
+                    referenced.lazySet(i, 1);
+                }
+                hits.increment();
+                return entry;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    private void insert(int set, ULID ulid) {
+        int base = set * WAYS;
+        int hand = hands.get(set);
+        // CLOCK: clear reference bits until not recently used entry is found, two rounds at most
+        for (int step = 0; step < WAYS * 2; step++, hand++) {
+            int i = base + (hand & (WAYS - 1));
+            ULID victim = entries.get(i);
+            if (victim != null && referenced.get(i) != 0) {
+                referenced.lazySet(i, 0);
+            } else if (entries.compareAndSet(i, victim, ulid)) {
+                hands.lazySet(set, hand + 1);
+                return;
+            }
+        }
+        // lost all races to concurrent inserts, value is just not cached
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.jaspeen.ulid;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timestamp;
+
+/**
+ * JFR events of ULID generators. Events cost nothing unless JFR recording with them enabled is running.
+ */
+final class ULIDEvents {
+    private ULIDEvents() {
+    }
+
+    @Name("io.github.jaspeen.ulid.EntropyOverflow")
+    @Label("ULID Entropy Overflow")
+    @Category("ULID")
+    @Description("Entropy overflowed while generating monotonic ULIDs in the same millisecond")
+    static final class EntropyOverflow extends Event {
+        @Label("Time")
+        @Timestamp
+        long time;
+    }
+
+    @Name("io.github.jaspeen.ulid.ClockRegression")
+    @Label("ULID Clock Regression")
+    @Category("ULID")
+    @Description("Clock moved backwards between generation of monotonic ULIDs")
+    static final class ClockRegression extends Event {
+        @Label("Last Time")
+        @Timestamp
+        long lastTime;
+
+        @Label("Time")
+        @Timestamp
+        long time;
+    }
+
+    static void entropyOverflow(long time) {
+        EntropyOverflow event = new EntropyOverflow();
+        if (event.isEnabled()) {
+            event.time = time;
+            event.commit();
+        }
+    }
+
+    static void clockRegression(long lastTime, long time) {
+        ClockRegression event = new ClockRegression();
+        if (event.isEnabled()) {
+            event.lastTime = lastTime;
+            event.time = time;
+            event.commit();
+        }
+    }
+}
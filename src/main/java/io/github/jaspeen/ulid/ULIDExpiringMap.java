@@ -0,0 +1,278 @@
+package io.github.jaspeen.ulid;
+
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * Concurrent map keyed by ULID which expires entries by the time embedded in the key.
+ * <p>
+ * Entries are stored in buckets covering fixed time intervals, the bucket is selected by {@link ULID#getTimestamp()}
+ * of the key, so no separate expiry time or ordered structure is needed. Expiration removes whole buckets without
+ * scanning their entries and without a global lock, operations on live buckets are not blocked.
+ * <p>
+ * Only buckets which are entirely older than expiration time are removed, so an entry may outlive its expiration
+ * time by up to bucket duration. Once a bucket is expired, entries with keys belonging to it are not accepted:
+ * put of such entry is ignored. Entry put concurrently with expiration of its bucket is either passed to
+ * the expiration callback or kept until the next expiration, it is never dropped silently.
+ * <p>
+ * Usage:
+ * <pre>
+ *     ULIDExpiringMap&lt;Session&gt; sessions = new ULIDExpiringMap&lt;&gt;(1000);
+ *     sessions.put(ULID.random(), session);
+ *     // periodically
+ *     sessions.expire(Duration.ofMinutes(30).toMillis(), (id, s) -&gt; s.close());
+ * </pre>
+ */
+public final class ULIDExpiringMap<V> {
+    /**
+     * Number of recently used buckets looked up by index without boxing, power of 2.
+     */
+    private static final int RECENT_BUCKETS = 64;
+
+    private final long bucketMillis;
+    private final ConcurrentSkipListMap<Long, Bucket<V>> buckets = new ConcurrentSkipListMap<>();
+    /**
+     * Ring of recently used buckets, slot is bucket index modulo ring size. Consecutive buckets never collide,
+     * so puts and gets around current time do not touch {@link #buckets}.
+     */
+    private final AtomicReferenceArray<Bucket<V>> recent = new AtomicReferenceArray<>(RECENT_BUCKETS);
+    /**
+     * Buckets before this one are expired.
+     */
+    private final AtomicLong watermark = new AtomicLong();
+
+    /**
+     * @param bucketMillis duration of time interval covered by one bucket, expiration granularity
+     */
+    public ULIDExpiringMap(long bucketMillis) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("Invalid bucket duration: " + bucketMillis);
+        }
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * Associates value with the key.
+     * @return previous value or null, value is not stored if key is already expired
+     */
+    public V put(ULID key, V value) {
+        V replaced = null;
+        while (true) {
+            Bucket<V> bucket = bucketForUpdate(key);
+            if (bucket == null) {
+                return replaced;
+            }
+            V prev = bucket.entries.put(key, value);
+            if (prev != null) {
+                replaced = prev;
+            }
+            if (bucket.isLive() || !bucket.entries.remove(key, value)) {
+                // stored, or handed to onExpired by concurrent expiration
+                return replaced;
+            }
+        }
+    }
+
+    /**
+     * Associates value with the key if there is no value for it.
+     * @return current value or null, value is not stored if key is already expired
+     */
+    public V putIfAbsent(ULID key, V value) {
+        while (true) {
+            Bucket<V> bucket = bucketForUpdate(key);
+            if (bucket == null) {
+                return null;
+            }
+            V prev = bucket.entries.putIfAbsent(key, value);
+            if (prev != null || bucket.isLive() || !bucket.entries.remove(key, value)) {
+                return prev;
+            }
+        }
+    }
+
+    public V get(ULID key) {
+        Bucket<V> bucket = bucket(index(key));
+        return bucket != null && !bucket.expired ? bucket.entries.get(key) : null;
+    }
+
+    public boolean containsKey(ULID key) {
+        return get(key) != null;
+    }
+
+    public V remove(ULID key) {
+        Bucket<V> bucket = bucket(index(key));
+        return bucket != null ? bucket.entries.remove(key) : null;
+    }
+
+    /**
+     * Number of entries, not exact under concurrent updates.
+     */
+    public long size() {
+        long res = 0;
+        for (Bucket<V> bucket : buckets.values()) {
+            res += bucket.entries.size();
+        }
+        return res;
+    }
+
+    public boolean isEmpty() {
+        for (Bucket<V> bucket : buckets.values()) {
+            if (!bucket.entries.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes entries with keys older than {@code ttlMillis} relative to current time.
+     * @param ttlMillis positive time to live
+     * @return number of removed entries
+     */
+    public long expire(long ttlMillis) {
+        return expire(ttlMillis, null);
+    }
+
+    /**
+     * Removes entries with keys older than {@code ttlMillis} relative to current time.
+     * @param ttlMillis positive time to live
+     * @param onExpired called for every removed entry, can be null
+     * @return number of removed entries
+     */
+    public long expire(long ttlMillis, BiConsumer<ULID, V> onExpired) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Invalid ttl: " + ttlMillis);
+        }
+        return expireBefore(System.currentTimeMillis() - ttlMillis, onExpired);
+    }
+
+    /**
+     * Removes entries with key timestamp before provided time, whole buckets only.
+     * @param time epoch millis
+     * @return number of removed entries
+     */
+    public long expireBefore(long time) {
+        return expireBefore(time, null);
+    }
+
+    /**
+     * Removes entries with key timestamp before provided time, whole buckets only.
+     * <p>
+     * Every entry stored before or concurrently with expiration of its bucket is passed to {@code onExpired}
+     * exactly once, unless it is removed by {@link #remove(ULID)} first.
+     * @param time epoch millis
+     * @param onExpired called for every removed entry, can be null
+     * @return number of removed entries
+     */
+    public long expireBefore(long time, BiConsumer<ULID, V> onExpired) {
+        if (time <= 0) {
+            return 0;
+        }
+        // bucket containing time is still partially live
+        long limit = watermark.accumulateAndGet(time / bucketMillis, Math::max);
+        ConcurrentNavigableMap<Long, Bucket<V>> expired = buckets.headMap(limit);
+        long removed = 0;
+        Map.Entry<Long, Bucket<V>> entry;
+        while ((entry = expired.pollFirstEntry()) != null) {
+            Bucket<V> bucket = entry.getValue();
+            retire(bucket);
+            if (onExpired == null) {
+                removed += bucket.entries.size();
+                continue;
+            }
+            for (Map.Entry<ULID, V> e : bucket.entries.entrySet()) {
+                // racing put either sees the bucket expired and takes its entry back, or its entry is removed here
+                if (bucket.entries.remove(e.getKey(), e.getValue())) {
+                    removed++;
+                    onExpired.accept(e.getKey(), e.getValue());
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all entries, expiration time is kept.
+     */
+    public void clear() {
+        Map.Entry<Long, Bucket<V>> entry;
+        while ((entry = buckets.pollFirstEntry()) != null) {
+            retire(entry.getValue());
+        }
+    }
+
+    private long index(ULID key) {
+        return key.getTimestamp() / bucketMillis;
+    }
+
+    private static int slot(long index) {
+        return (int) index & (RECENT_BUCKETS - 1);
+    }
+
+    private Bucket<V> bucket(long index) {
+        Bucket<V> bucket = recent.get(slot(index));
+        if (bucket != null && bucket.index == index) {
+            return bucket;
+        }
+        bucket = buckets.get(index);
+        if (bucket != null) {
+            remember(bucket);
+        }
+        return bucket;
+    }
+
+    private Bucket<V> bucketForUpdate(ULID key) {
+        long index = index(key);
+        if (index < watermark.get()) {
+            return null;
+        }
+        Bucket<V> bucket = recent.get(slot(index));
+        if (bucket != null && bucket.index == index && !bucket.expired) {
+            return bucket;
+        }
+        // bucket recreated by a put racing with expiration is removed by the next expiration
+        bucket = buckets.computeIfAbsent(index, Bucket::new);
+        remember(bucket);
+        return bucket;
+    }
+
+    private void remember(Bucket<V> bucket) {
+        int slot = slot(bucket.index);
+        recent.set(slot, bucket);
+        if (bucket.expired) {
+            // retired concurrently, do not keep it reachable
+            recent.compareAndSet(slot, bucket, null);
+        }
+    }
+
+    private void retire(Bucket<V> bucket) {
+        bucket.expired = true;
+        VarHandle.fullFence();
+        recent.compareAndSet(slot(bucket.index), bucket, null);
+    }
+
+    private static final class Bucket<V> {
+        final long index;
+        final ConcurrentHashMap<ULID, V> entries = new ConcurrentHashMap<>();
+        volatile boolean expired;
+
+        Bucket(long index) {
+            this.index = index;
+        }
+
+        /**
+         * Called after an update, fence orders the update with the read of expired flag,
+         * so either expiration sees the updated entry or the updater sees the bucket expired.
+         */
+        boolean isLive() {
+            VarHandle.fullFence();
+            return !expired;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.jaspeen.ulid;
+
+/**
+ * Counters of ULID generator, all values are cumulative since generator creation.
+ * <p>
+ * Interface has no dependencies, so it can be bound to any metrics library, e.g. Micrometer:
+ * <pre>
+ *     ULIDGeneratorMetrics metrics = generator.getMetrics();
+ *     FunctionCounter.builder("ulid.generated", metrics, ULIDGeneratorMetrics::getGenerated).register(registry);
+ *     FunctionCounter.builder("ulid.increments", metrics, ULIDGeneratorMetrics::getIncrements).register(registry);
+ *     Gauge.builder("ulid.burst.max", metrics, ULIDGeneratorMetrics::getMaxSameMillisBurst).register(registry);
+ * </pre>
+ */
+public interface ULIDGeneratorMetrics {
+    /**
+     * Number of generated ULIDs
+     */
+    long getGenerated();
+
+    /**
+     * Number of ULIDs generated by incrementing entropy of previous ULID in the same millisecond
+     */
+    long getIncrements();
+
+    /**
+     * Maximum number of ULIDs generated in the same millisecond
+     */
+    long getMaxSameMillisBurst();
+
+    /**
+     * Number of generation calls which had to wait for (or retry because of) another thread
+     */
+    long getContended();
+
+    /**
+     * Total time in nanoseconds spent waiting for another threads
+     */
+    long getContendedNanos();
+
+    /**
+     * Number of failures because of entropy overflow in the same millisecond
+     */
+    long getOverflows();
+
+    /**
+     * Number of times the clock was observed moving backwards
+     */
+    long getClockRegressions();
+}
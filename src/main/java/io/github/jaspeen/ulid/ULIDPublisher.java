@@ -0,0 +1,129 @@
+package io.github.jaspeen.ulid;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unlimited {@link Flow.Publisher} of monotonic ULIDs.
+ * <p>
+ * Honors subscriber demand and generates requested ULIDs in batches using {@link MonotonicULID#fill}, so generator
+ * lock is acquired once per batch instead of once per element. ULIDs are emitted synchronously on the thread
+ * calling {@link Flow.Subscription#request(long)}.
+ * <p>
+ * Usage:
+ * <pre>
+ *     Flux&lt;ULID&gt; ids = JdkFlowAdapter.flowPublisherToFlux(new ULIDPublisher());
+ * </pre>
+ */
+public class ULIDPublisher implements Flow.Publisher<ULID> {
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final MonotonicULID generator;
+    private final int batchSize;
+
+    public ULIDPublisher() {
+        this(MonotonicULID.DEFAULT, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param generator source of ULIDs
+     * @param batchSize maximum number of ULIDs generated at once
+     */
+    public ULIDPublisher(MonotonicULID generator, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        this.generator = generator;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ULID> subscriber) {
+        subscriber.onSubscribe(new ULIDSubscription(subscriber));
+    }
+
+    private final class ULIDSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ULID> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private ULID[] buffer;
+
+        ULIDSubscription(Flow.Subscriber<? super ULID> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // delivered by the draining thread, signals to subscriber must not be concurrent (rule 1.3)
+                error = new IllegalArgumentException("Non-positive request: " + n);
+                n = 1;
+            }
+            long prev;
+            long next;
+            do {
+                prev = requested.get();
+                next = prev + n < 0 ? Long.MAX_VALUE : prev + n;
+            } while (!requested.compareAndSet(prev, next));
+            // only the thread moving demand from zero emits, reentrant requests from onNext just add demand
+            if (prev == 0) {
+                drain(next);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain(long demand) {
+            if (buffer == null) {
+                buffer = new ULID[batchSize];
+            }
+            while (true) {
+                long emitted = 0;
+                while (emitted != demand) {
+                    if (terminated()) {
+                        return;
+                    }
+                    int n = (int) Math.min(demand - emitted, batchSize);
+                    try {
+                        generator.fill(buffer, 0, n);
+                    } catch (RuntimeException e) {
+                        cancelled = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    for (int i = 0; i < n; i++) {
+                        if (terminated()) {
+                            return;
+                        }
+                        subscriber.onNext(buffer[i]);
+                    }
+                    emitted += n;
+                }
+                demand = requested.addAndGet(-emitted);
+                if (demand == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return true if subscription is cancelled or pending error is delivered
+         */
+        private boolean terminated() {
+            if (cancelled) {
+                return true;
+            }
+            Throwable e = error;
+            if (e != null) {
+                cancelled = true;
+                subscriber.onError(e);
+                return true;
+            }
+            return false;
+        }
+    }
+}
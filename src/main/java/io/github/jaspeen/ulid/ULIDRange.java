@@ -0,0 +1,127 @@
+package io.github.jaspeen.ulid;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inclusive range of ULIDs.
+ * <p>
+ * Since ULIDs are ordered by timestamp first, a time window maps to a single contiguous range of ULIDs,
+ * which allows to query records by creation time using primary key index.
+ * <p>
+ * Usage:
+ * <pre>
+ *     ULIDRange range = ULIDRange.ofTime(from.toEpochMilli(), to.toEpochMilli());
+ *     range.contains(ulid);
+ *     // partition work between 8 workers
+ *     List&lt;ULIDRange&gt; parts = range.split(8);
+ * </pre>
+ */
+public final class ULIDRange implements Serializable {
+    private static final BigInteger MASK_64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    private final ULID from;
+    private final ULID to;
+
+    private ULIDRange(ULID from, ULID to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Range between two ULIDs, both inclusive
+     */
+    public static ULIDRange of(ULID from, ULID to) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Invalid range: " + from + " is greater than " + to);
+        }
+        return new ULIDRange(from, to);
+    }
+
+    /**
+     * Range of all ULIDs generated between two timestamps, both inclusive
+     * @param fromTime 48-bit timestamp
+     * @param toTime 48-bit timestamp
+     */
+    public static ULIDRange ofTime(long fromTime, long toTime) {
+        return of(ULID.min(fromTime), ULID.max(toTime));
+    }
+
+    /**
+     * Lower bound, inclusive
+     */
+    public ULID getFrom() {
+        return from;
+    }
+
+    /**
+     * Upper bound, inclusive
+     */
+    public ULID getTo() {
+        return to;
+    }
+
+    public boolean contains(ULID ulid) {
+        return from.compareTo(ulid) <= 0 && to.compareTo(ulid) >= 0;
+    }
+
+    public boolean contains(ULIDRange other) {
+        return from.compareTo(other.from) <= 0 && to.compareTo(other.to) >= 0;
+    }
+
+    public boolean overlaps(ULIDRange other) {
+        return from.compareTo(other.to) <= 0 && other.from.compareTo(to) <= 0;
+    }
+
+    /**
+     * Splits range into {@code n} adjacent sub-ranges of (almost) equal size.
+     * <p>
+     * Returns fewer ranges if this range contains less than {@code n} ULIDs.
+     */
+    public List<ULIDRange> split(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Invalid number of parts: " + n);
+        }
+        BigInteger start = toBigInteger(from);
+        BigInteger size = toBigInteger(to).subtract(start).add(BigInteger.ONE);
+        BigInteger parts = size.min(BigInteger.valueOf(n));
+
+        List<ULIDRange> res = new ArrayList<>(parts.intValue());
+        BigInteger partStart = start;
+        for (int i = 1; i <= parts.intValue(); i++) {
+            BigInteger next = start.add(size.multiply(BigInteger.valueOf(i)).divide(parts));
+            res.add(new ULIDRange(fromBigInteger(partStart), fromBigInteger(next.subtract(BigInteger.ONE))));
+            partStart = next;
+        }
+        return res;
+    }
+
+    private static BigInteger toBigInteger(ULID ulid) {
+        return new BigInteger(1, ulid.toBytes());
+    }
+
+    private static ULID fromBigInteger(BigInteger val) {
+        return new ULID(val.shiftRight(64).longValue(), val.and(MASK_64).longValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * from.hashCode() + to.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ULIDRange)) {
+            return false;
+        }
+        ULIDRange other = (ULIDRange) obj;
+        return from.equals(other.from) && to.equals(other.to);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + "]";
+    }
+}
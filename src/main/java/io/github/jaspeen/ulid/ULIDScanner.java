@@ -0,0 +1,188 @@
+package io.github.jaspeen.ulid;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streaming extractor of ULIDs from text, e.g. log files.
+ * <p>
+ * Finds 26-character Crockford Base32 tokens surrounded by word boundaries (same as {@code \b} in regular expressions)
+ * and passes decoded values to the {@link Handler}. Text is processed as ASCII compatible bytes (ASCII, UTF-8, ISO-8859-*),
+ * tokens are decoded on the fly, so no objects are created per line or per found ULID.
+ * Tokens starting with a character greater than '7' overflow 128 bits and are skipped.
+ * <p>
+ * <i>Scanner is stateful and not thread safe, reuse it for consequent inputs in the same thread</i>
+ * <p>
+ * Usage:
+ * <pre>
+ *     ULIDScanner scanner = new ULIDScanner();
+ *     scanner.scan(Paths.get("app.log"), (msb, lsb) -&gt; ids.add(new ULID(msb, lsb)));
+ * </pre>
+ */
+public final class ULIDScanner {
+    /**
+     * Receives ULIDs found by scanner.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void onULID(long msb, long lsb);
+    }
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Maximum size of a single memory mapped region.
+     */
+    private static final long MAP_CHUNK = 1L << 30;
+
+    /**
+     * Current word is not a ULID, skip until next word boundary.
+     */
+    private static final int SKIP = -1;
+
+    private final byte[] buffer;
+    private final byte[] window = new byte[ULID.STR_LENGTH];
+    private int length = 0;
+
+    public ULIDScanner() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize read buffer size used for streams and channels
+     */
+    public ULIDScanner(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+        }
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Scans whole byte array.
+     * @return number of found ULIDs
+     */
+    public long scan(byte[] data, Handler handler) {
+        return scan(data, 0, data.length, handler);
+    }
+
+    /**
+     * Scans {@code len} bytes of the array starting at {@code off}.
+     * @return number of found ULIDs
+     */
+    public long scan(byte[] data, int off, int len, Handler handler) {
+        reset();
+        long res = feed(data, off, off + len, handler);
+        return res + finish(handler);
+    }
+
+    /**
+     * Scans stream until the end, stream is not closed.
+     * @return number of found ULIDs
+     */
+    public long scan(InputStream in, Handler handler) throws IOException {
+        reset();
+        long res = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            res += feed(buffer, 0, read, handler);
+        }
+        return res + finish(handler);
+    }
+
+    /**
+     * Scans channel until the end, channel is not closed.
+     * @return number of found ULIDs
+     */
+    public long scan(ReadableByteChannel channel, Handler handler) throws IOException {
+        reset();
+        long res = 0;
+        ByteBuffer buf = ByteBuffer.wrap(buffer);
+        int read;
+        while ((read = channel.read(buf)) != -1) {
+            res += feed(buffer, 0, read, handler);
+            buf.clear();
+        }
+        return res + finish(handler);
+    }
+
+    /**
+     * Scans file contents using memory mapping.
+     * @return number of found ULIDs
+     */
+    public long scan(Path file, Handler handler) throws IOException {
+        reset();
+        long res = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long pos = 0; pos < size; pos += MAP_CHUNK) {
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_CHUNK, size - pos));
+                res += feed(buf, handler);
+            }
+        }
+        return res + finish(handler);
+    }
+
+    private void reset() {
+        length = 0;
+    }
+
+    private long feed(byte[] data, int from, int to, Handler handler) {
+        long res = 0;
+        for (int i = from; i < to; i++) {
+            res += accept(data[i] & 0xff, handler);
+        }
+        return res;
+    }
+
+    private long feed(ByteBuffer data, Handler handler) {
+        long res = 0;
+        for (int i = data.position(), to = data.limit(); i < to; i++) {
+            res += accept(data.get(i) & 0xff, handler);
+        }
+        return res;
+    }
+
+    private int accept(int c, Handler handler) {
+        byte v;
+        if (c < 128 && (v = ULID.V[c]) != (byte) 0xff) {
+            if (length != SKIP) {
+                if (length < ULID.STR_LENGTH) {
+                    window[length++] = v;
+                } else {
+                    // too long
+                    length = SKIP;
+                }
+            }
+            return 0;
+        }
+        if (isWordChar(c)) {
+            length = SKIP;
+            return 0;
+        }
+        return finish(handler);
+    }
+
+    private int finish(Handler handler) {
+        boolean found = length == ULID.STR_LENGTH && window[0] <= 7;
+        length = 0;
+        if (found) {
+            handler.onULID(ULID.decodeMsb(window, 0), ULID.decodeLsb(window, 0));
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Word characters which are not Crockford Base32 characters. Non-ASCII bytes are treated as letters.
+     */
+    private static boolean isWordChar(int c) {
+        return c == 'U' || c == 'u' || c == '_' || c >= 128;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.jaspeen.ulid;
+
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Sized spliterator generating monotonic ULIDs.
+ * <p>
+ * Every split keeps its own monotonic state, so splits processed in parallel do not contend with each other.
+ * ULIDs produced by the same split are strictly increasing, uniqueness between splits relies on random entropy
+ * the same way as for {@link ULID#random()}.
+ */
+final class ULIDSpliterator implements Spliterator<ULID> {
+    /**
+     * Smallest size worth splitting.
+     */
+    private static final long MIN_SPLIT = 1024;
+
+    private long remaining;
+    private long lastMsb = 0L;
+    private long lastLsb = 0L;
+
+    ULIDSpliterator(long size) {
+        this.remaining = size;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ULID> action) {
+        if (remaining <= 0) {
+            return false;
+        }
+        remaining--;
+        action.accept(next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ULID> action) {
+        for (; remaining > 0; remaining--) {
+            action.accept(next());
+        }
+    }
+
+    private ULID next() {
+        long now = System.currentTimeMillis();
+        if (now > lastMsb >>> 16) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            lastMsb = now << 16 | (random.nextInt() & 0xffff);
+            lastLsb = random.nextLong();
+        } else {
+            // same millisecond or clock moved backwards, increment entropy
+            if (++lastLsb == 0L) {
+                if ((lastMsb & 0xffffL) == 0xffffL) {
+                    throw new IllegalStateException("ULID entropy overflowed for same millisecond");
+                }
+                lastMsb++;
+            }
+        }
+        return new ULID(lastMsb, lastLsb);
+    }
+
+    @Override
+    public Spliterator<ULID> trySplit() {
+        if (remaining < MIN_SPLIT * 2) {
+            return null;
+        }
+        long half = remaining >>> 1;
+        remaining -= half;
+        return new ULIDSpliterator(half);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.jaspeen.ulid.hibernate;
+
+import io.github.jaspeen.ulid.ULID;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List view over packed 16 bytes binary representations of ULIDs.
+ * <p>
+ * Elements are decoded only when accessed, so loading an entity does not parse the whole collection.
+ * First modification decodes all elements into an {@link ArrayList}, which backs the list from then on.
+ */
+final class PackedULIDList extends AbstractList<ULID> implements RandomAccess {
+    private final byte[] packed;
+    private List<ULID> modified;
+
+    /**
+     * @param packed binary data, length must be a multiple of {@link ULID#BIN_LENGTH}. Array is not copied
+     */
+    PackedULIDList(byte[] packed) {
+        if (packed.length % ULID.BIN_LENGTH != 0) {
+            throw new IllegalArgumentException("Invalid packed ULIDs length: " + packed.length);
+        }
+        this.packed = packed;
+    }
+
+    @Override
+    public ULID get(int index) {
+        if (modified != null) {
+            return modified.get(index);
+        }
+        Objects.checkIndex(index, size());
+        return ULID.fromBytes(packed, index * ULID.BIN_LENGTH);
+    }
+
+    @Override
+    public int size() {
+        return modified != null ? modified.size() : packed.length / ULID.BIN_LENGTH;
+    }
+
+    @Override
+    public ULID set(int index, ULID element) {
+        return modifiable().set(index, element);
+    }
+
+    @Override
+    public void add(int index, ULID element) {
+        modifiable().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public ULID remove(int index) {
+        ULID res = modifiable().remove(index);
+        modCount++;
+        return res;
+    }
+
+    /**
+     * Returns backing array if list was not modified, null otherwise. Array must not be modified.
+     */
+    byte[] packed() {
+        return modified == null ? packed : null;
+    }
+
+    private List<ULID> modifiable() {
+        if (modified == null) {
+            List<ULID> copy = new ArrayList<>(size() + 1);
+            for (int i = 0; i < size(); i++) {
+                copy.add(get(i));
+            }
+            modified = copy;
+        }
+        return modified;
+    }
+}
@@ -1,10 +1,12 @@
 package io.github.jaspeen.ulid.hibernate;
 
+import io.github.jaspeen.ulid.MonotonicULID;
 import io.github.jaspeen.ulid.ULID;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
@@ -34,24 +36,47 @@ import java.util.UUID;
  *        private UUID id;
  *    }
  * </pre>
+ * <p>
+ * With {@value #POOL_SIZE_PARAM} parameter greater than 1, monotonic ULIDs are generated in blocks of that size
+ * per thread using {@link MonotonicULID#fill} and handed out sequentially, which reduces per entity overhead of
+ * batch inserts. Values are converted to the field type only when handed out.
+ * <p>
+ * IDs of a block are generated at once, so their timestamp is the time the block was filled. To keep it close to
+ * the time of insert, block is also refilled when it is older than {@value #POOL_MAX_AGE_PARAM} milliseconds
+ * ({@value #DEFAULT_POOL_MAX_AGE} by default), and remaining IDs are discarded.
+ * <pre>
+ *    &#64;GenericGenerator(name = "ulid", strategy = "io.github.jaspeen.ulid.hibernate.ULIDIdGenerator",
+ *            parameters = {
+ *                    &#64;Parameter(name = "pool_size", value = "1000"),
+ *                    &#64;Parameter(name = "pool_max_age_ms", value = "100")})
+ * </pre>
  */
 public class ULIDIdGenerator implements IdentifierGenerator {
+    /**
+     * Number of ULIDs pre-generated per thread, values less than 2 disable pooling.
+     */
+    public static final String POOL_SIZE_PARAM = "pool_size";
+
+    /**
+     * Maximum age in milliseconds of pre-generated ULIDs, older block is refilled.
+     */
+    public static final String POOL_MAX_AGE_PARAM = "pool_max_age_ms";
+
+    public static final int DEFAULT_POOL_MAX_AGE = 1000;
 
     private ULIDTypeDescriptor.ValueTransformer valueTransformer;
+    private ThreadLocal<Block> pool;
 
     @Override public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws
                                                                                                    MappingException {
-        if (ULID.class.isAssignableFrom(type.getReturnedClass())) {
-            valueTransformer = ULIDTypeDescriptor.PassThroughTransformer.INSTANCE;
-        } else if (UUID.class.isAssignableFrom(type.getReturnedClass())) {
-            valueTransformer = ULIDTypeDescriptor.ToUUIDTransformer.INSTANCE;
-        } else if (String.class.isAssignableFrom(type.getReturnedClass())) {
-            valueTransformer = ULIDTypeDescriptor.ToStringTransformer.INSTANCE;
-        } else if (byte[].class.isAssignableFrom(type.getReturnedClass())) {
-            valueTransformer = ULIDTypeDescriptor.ToBytesTransformer.INSTANCE;
-        } else {
-            throw new HibernateException(
-                    "Unanticipated return type [" + type.getReturnedClass().getName() + "] for ULID conversion");
+        valueTransformer = ULIDTypeDescriptor.transformerFor(type.getReturnedClass());
+        int poolSize = ConfigurationHelper.getInt(POOL_SIZE_PARAM, params, 1);
+        int maxAge = ConfigurationHelper.getInt(POOL_MAX_AGE_PARAM, params, DEFAULT_POOL_MAX_AGE);
+        if (maxAge <= 0) {
+            throw new MappingException("Invalid " + POOL_MAX_AGE_PARAM + ": " + maxAge);
+        }
+        if (poolSize > 1) {
+            pool = ThreadLocal.withInitial(() -> new Block(poolSize, maxAge));
         }
     }
 
@@ -62,7 +87,37 @@ public class ULIDIdGenerator implements IdentifierGenerator {
         if (id != null) {
             return id;
         }
-        ULID val = ULID.random();
+        ULID val = pool != null ? pool.get().next() : ULID.random();
         return valueTransformer.transform(val);
     }
+
+    static final class Block {
+        private final ULID[] ids;
+        private final long maxAgeMillis;
+        private long filledAt;
+        private int next;
+
+        Block(int size, long maxAgeMillis) {
+            this.ids = new ULID[size];
+            this.maxAgeMillis = maxAgeMillis;
+            this.next = size;
+        }
+
+        ULID next() {
+            long now = System.currentTimeMillis();
+            if (next == ids.length || now - filledAt > maxAgeMillis) {
+                MonotonicULID.DEFAULT.fill(ids, 0, ids.length);
+                filledAt = now;
+                next = 0;
+            }
+            return ids[next++];
+        }
+
+        /**
+         * Number of IDs left before refill, not counting expiration.
+         */
+        int remaining() {
+            return ids.length - next;
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package io.github.jaspeen.ulid.hibernate;
+
+import io.github.jaspeen.ulid.ULID;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * JPA converter storing list of {@link ULID} as single binary column of packed 16 bytes binary representations.
+ * <p>
+ * Loaded lists decode elements only when accessed and are copied to {@link java.util.ArrayList} on first
+ * modification. Storing a loaded list which was not modified reuses its binary data without encoding.
+ * <p>
+ * Usage:
+ * <pre>
+ *    &#64;Convert(converter = ULIDListConverter.class)
+ *    &#64;Column(length = 16 * MAX_SIZE)
+ *    private List&lt;ULID&gt; tags;
+ * </pre>
+ */
+@Converter
+public class ULIDListConverter implements AttributeConverter<List<ULID>, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<ULID> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute instanceof PackedULIDList) {
+            byte[] packed = ((PackedULIDList) attribute).packed();
+            if (packed != null) {
+                return packed;
+            }
+        }
+        byte[] res = new byte[attribute.size() * ULID.BIN_LENGTH];
+        int offset = 0;
+        for (ULID ulid : attribute) {
+            ulid.toBytes(res, offset);
+            offset += ULID.BIN_LENGTH;
+        }
+        return res;
+    }
+
+    @Override
+    public List<ULID> convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return new PackedULIDList(dbData);
+    }
+}
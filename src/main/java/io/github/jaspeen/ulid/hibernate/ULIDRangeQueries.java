@@ -0,0 +1,63 @@
+package io.github.jaspeen.ulid.hibernate;
+
+import io.github.jaspeen.ulid.ULIDRange;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Helpers to query entities with ULID primary keys by creation time.
+ * <p>
+ * Time window is turned into {@code BETWEEN} condition on the primary key, so database can use primary key index
+ * range scan instead of additional index on creation time column.
+ * Supports {@link io.github.jaspeen.ulid.ULID}, {@link java.util.UUID}, String and byte[] (only in parameterized queries)
+ * id types. String ids must be stored in upper case as produced by {@link io.github.jaspeen.ulid.ULID#toString()} and
+ * compared with binary collation.
+ * <p>
+ * Usage:
+ * <pre>
+ *    ULIDRange range = ULIDRange.ofTime(from.toEpochMilli(), to.toEpochMilli());
+ *
+ *    // criteria API
+ *    CriteriaQuery&lt;ULIDEntity&gt; q = cb.createQuery(ULIDEntity.class);
+ *    Root&lt;ULIDEntity&gt; root = q.from(ULIDEntity.class);
+ *    q.where(ULIDRangeQueries.between(cb, root.get("id"), range));
+ *
+ *    // HQL
+ *    ULIDRangeQueries.setParameters(
+ *            session.createQuery("from ULIDEntity e where e.id between :from and :to", ULIDEntity.class),
+ *            "from", "to", range, ULID.class)
+ *        .getResultList();
+ * </pre>
+ */
+public final class ULIDRangeQueries {
+    private ULIDRangeQueries() {
+    }
+
+    /**
+     * Creates {@code id BETWEEN from AND to} predicate for id expression of any supported type except byte[].
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Predicate between(CriteriaBuilder cb, Expression<?> id, ULIDRange range) {
+        ULIDTypeDescriptor.ValueTransformer transformer = ULIDTypeDescriptor.transformerFor(id.getJavaType());
+        Object from = transformer.transform(range.getFrom());
+        Object to = transformer.transform(range.getTo());
+        if (!(from instanceof Comparable)) {
+            throw new IllegalArgumentException(
+                    "Unsupported id type [" + id.getJavaType().getName() + "] for criteria range query");
+        }
+        return cb.between((Expression) id, (Comparable) from, (Comparable) to);
+    }
+
+    /**
+     * Binds range bounds to named parameters of query converting them to id type.
+     */
+    public static <Q extends Query> Q setParameters(Q query, String fromParam, String toParam, ULIDRange range,
+                                                    Class<?> idType) {
+        ULIDTypeDescriptor.ValueTransformer transformer = ULIDTypeDescriptor.transformerFor(idType);
+        query.setParameter(fromParam, transformer.transform(range.getFrom()));
+        query.setParameter(toParam, transformer.transform(range.getTo()));
+        return query;
+    }
+}
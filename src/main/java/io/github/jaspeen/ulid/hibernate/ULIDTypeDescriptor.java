@@ -6,6 +6,8 @@ import java.sql.Types;
 import java.util.UUID;
 
 import io.github.jaspeen.ulid.ULID;
+import io.github.jaspeen.ulid.ULIDCache;
+import org.hibernate.HibernateException;
 import org.hibernate.internal.util.BytesHelper;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.AbstractJavaType;
@@ -14,13 +16,37 @@ import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
 
 /**
  * Descriptor for {@link ULID} handling.
+ * <p>
+ * Optional {@link ULIDCache} makes loaded values canonical instances, which saves allocations when the same IDs are
+ * loaded over and over again. {@code @JavaType(ULIDTypeDescriptor.class)} always creates a descriptor without cache,
+ * cache backed descriptor is registered for all ULID attributes with a {@code TypeContributor}:
+ * <pre>
+ *     public class ULIDTypeContributor implements TypeContributor {
+ *         static final ULIDCache CACHE = new ULIDCache(100_000);
+ *
+ *         public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
+ *             typeContributions.contributeJavaType(new ULIDTypeDescriptor(CACHE));
+ *         }
+ *     }
+ * </pre>
+ * listed in {@code META-INF/services/org.hibernate.boot.model.TypeContributor}.
  */
 public class ULIDTypeDescriptor extends AbstractJavaType<ULID> {
     public static final ULIDTypeDescriptor
             INSTANCE = new ULIDTypeDescriptor();
 
+    private final ULIDCache cache;
+
     public ULIDTypeDescriptor() {
+        this(null);
+    }
+
+    /**
+     * @param cache cache of canonical instances used to wrap loaded values, can be null
+     */
+    public ULIDTypeDescriptor(ULIDCache cache) {
         super(ULID.class);
+        this.cache = cache;
     }
 
     public String toString(ULID value) {
@@ -63,6 +89,9 @@ public class ULIDTypeDescriptor extends AbstractJavaType<ULID> {
         if (value instanceof ULID) {
             return ULIDTypeDescriptor.PassThroughTransformer.INSTANCE.parse(value);
         }
+        if (cache != null) {
+            return wrapCached(value);
+        }
         if (value instanceof UUID) {
             return ULIDTypeDescriptor.ToUUIDTransformer.INSTANCE.parse(value);
         }
@@ -75,6 +104,37 @@ public class ULIDTypeDescriptor extends AbstractJavaType<ULID> {
         throw unknownWrap(value.getClass());
     }
 
+    private ULID wrapCached(Object value) {
+        if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            return cache.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        }
+        if (value instanceof String) {
+            return cache.get((String) value);
+        }
+        if (value instanceof byte[]) {
+            byte[] bytes = checkLength((byte[]) value);
+            return cache.get(BytesHelper.asLong(bytes, 0), BytesHelper.asLong(bytes, 8));
+        }
+        throw unknownWrap(value.getClass());
+    }
+
+    /**
+     * Returns transformer for supported java type of ULID value: {@link ULID}, {@link UUID}, String or byte[].
+     */
+    public static ValueTransformer transformerFor(Class<?> type) {
+        if (ULID.class.isAssignableFrom(type)) {
+            return ULIDTypeDescriptor.PassThroughTransformer.INSTANCE;
+        } else if (UUID.class.isAssignableFrom(type)) {
+            return ULIDTypeDescriptor.ToUUIDTransformer.INSTANCE;
+        } else if (String.class.isAssignableFrom(type)) {
+            return ULIDTypeDescriptor.ToStringTransformer.INSTANCE;
+        } else if (byte[].class.isAssignableFrom(type)) {
+            return ULIDTypeDescriptor.ToBytesTransformer.INSTANCE;
+        }
+        throw new HibernateException("Unanticipated return type [" + type.getName() + "] for ULID conversion");
+    }
+
     public interface ValueTransformer {
         Serializable transform(ULID ulid);
 
@@ -136,8 +196,16 @@ public class ULIDTypeDescriptor extends AbstractJavaType<ULID> {
         }
 
         public ULID parse(Object value) {
-            byte[] bytea = (byte[]) value;
+            byte[] bytea = checkLength((byte[]) value);
             return new ULID(BytesHelper.asLong(bytea, 0), BytesHelper.asLong(bytea, 8));
         }
     }
+
+    private static byte[] checkLength(byte[] bytes) {
+        if (bytes.length != ULID.BIN_LENGTH) {
+            throw new HibernateException("ULID binary value must be " + ULID.BIN_LENGTH + " bytes, got "
+                                         + bytes.length);
+        }
+        return bytes;
+    }
 }
@@ -0,0 +1,82 @@
+package io.github.jaspeen.ulid.jackson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import io.github.jaspeen.ulid.ULID;
+
+import java.io.IOException;
+
+/**
+ * Jackson deserializer for {@link ULID}.
+ * <p>
+ * Decodes Crockford Base32 characters directly from the parser text buffer without creating a String.
+ * Accepts 16 bytes binary representation embedded by binary formats. In binary mode also accepts base64 string
+ * written by {@link ULIDSerializer} in binary mode to JSON.
+ */
+public class ULIDDeserializer extends StdScalarDeserializer<ULID> {
+    /**
+     * Length of padded base64 encoded 16 bytes
+     */
+    private static final int BASE64_LENGTH = 24;
+
+    private final boolean binary;
+
+    public ULIDDeserializer() {
+        this(false);
+    }
+
+    /**
+     * @param binary accept base64 encoded 16 bytes binary representation in addition to string
+     */
+    public ULIDDeserializer(boolean binary) {
+        super(ULID.class);
+        this.binary = binary;
+    }
+
+    @Override
+    public ULID deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            if (p.getTextLength() == ULID.STR_LENGTH) {
+                try {
+                    return ULID.fromChars(p.getTextCharacters(), p.getTextOffset());
+                } catch (IllegalArgumentException e) {
+                    return (ULID) ctxt.handleWeirdStringValue(_valueClass, p.getText(), "%s", e.getMessage());
+                }
+            }
+            if (binary && p.getTextLength() == BASE64_LENGTH) {
+                // base64 encoded binary representation
+                byte[] bytes;
+                try {
+                    bytes = p.getBinaryValue();
+                } catch (JsonParseException e) {
+                    return (ULID) ctxt.handleWeirdStringValue(_valueClass, p.getText(), "Invalid ULID base64");
+                }
+                return fromBytes(bytes, p, ctxt);
+            }
+            return (ULID) ctxt.handleWeirdStringValue(_valueClass, p.getText(),
+                                                      "ULID string must be %d characters", ULID.STR_LENGTH);
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            Object value = p.getEmbeddedObject();
+            if (value instanceof ULID) {
+                return (ULID) value;
+            }
+            if (value instanceof byte[]) {
+                return fromBytes((byte[]) value, p, ctxt);
+            }
+        }
+        return (ULID) ctxt.handleUnexpectedToken(_valueClass, p);
+    }
+
+    private ULID fromBytes(byte[] bytes, JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (bytes.length != ULID.BIN_LENGTH) {
+            return (ULID) ctxt.handleWeirdStringValue(_valueClass, p.getText(),
+                                                      "Invalid ULID bytes length: %d", bytes.length);
+        }
+        return ULID.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.jaspeen.ulid.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.jaspeen.ulid.ULID;
+
+/**
+ * Jackson module registering {@link ULID} serializer and deserializer.
+ * <p>
+ * Usage:
+ * <pre>
+ *     ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule());
+ *     // 16 bytes binary representation for Smile/CBOR
+ *     ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).registerModule(new ULIDModule(true));
+ * </pre>
+ */
+public class ULIDModule extends SimpleModule {
+
+    public ULIDModule() {
+        this(false);
+    }
+
+    /**
+     * @param binary serialize ULIDs as 16 bytes binary instead of string, and accept base64 encoded binary
+     *               when deserializing from JSON
+     */
+    public ULIDModule(boolean binary) {
+        super(ULIDModule.class.getSimpleName());
+        addSerializer(ULID.class, new ULIDSerializer(binary));
+        addDeserializer(ULID.class, new ULIDDeserializer(binary));
+    }
+}
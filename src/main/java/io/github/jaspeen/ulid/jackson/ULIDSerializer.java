@@ -0,0 +1,47 @@
+package io.github.jaspeen.ulid.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.jaspeen.ulid.ULID;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer for {@link ULID}.
+ * <p>
+ * Writes Crockford Base32 characters directly to the generator using thread local buffer, so no String is created.
+ * In binary mode writes 16 bytes binary representation, which is compact for binary formats like Smile or CBOR
+ * (base64 encoded in JSON).
+ */
+public class ULIDSerializer extends StdSerializer<ULID> {
+    private static final ThreadLocal<char[]> CHARS = ThreadLocal.withInitial(() -> new char[ULID.STR_LENGTH]);
+    private static final ThreadLocal<byte[]> BYTES = ThreadLocal.withInitial(() -> new byte[ULID.BIN_LENGTH]);
+
+    private final boolean binary;
+
+    public ULIDSerializer() {
+        this(false);
+    }
+
+    /**
+     * @param binary write 16 bytes binary representation instead of string
+     */
+    public ULIDSerializer(boolean binary) {
+        super(ULID.class);
+        this.binary = binary;
+    }
+
+    @Override
+    public void serialize(ULID value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (binary) {
+            byte[] bytes = BYTES.get();
+            value.toBytes(bytes, 0);
+            gen.writeBinary(bytes, 0, ULID.BIN_LENGTH);
+        } else {
+            char[] chars = CHARS.get();
+            value.toChars(chars, 0);
+            gen.writeString(chars, 0, ULID.STR_LENGTH);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ConcurrentMonotonicULIDTest {
+
+    @Test
+    void next() {
+        ConcurrentMonotonicULID u = new ConcurrentMonotonicULID(ThreadLocalRandom.current());
+        ULID prev = u.next();
+        for (int i = 0; i < 100_000; i++) {
+            ULID next = u.next();
+            assertEquals(-1, prev.compareTo(next));
+            prev = next;
+        }
+    }
+
+    @Test
+    void random() {
+        ULID u1 = ConcurrentMonotonicULID.random();
+        ULID u2 = ConcurrentMonotonicULID.random();
+
+        assertEquals(-1, u1.compareTo(u2));
+    }
+
+    @Test
+    void carry() {
+        // lsb overflows into msb in the same millisecond
+        ConcurrentMonotonicULID u = new ConcurrentMonotonicULID(new Random() {
+            @Override public void nextBytes(byte[] bytes) {
+                Arrays.fill(bytes, (byte) 0xff);
+                bytes[1] = 0;
+            }
+        });
+        ULID prev = u.next();
+        for (int i = 0; i < 1000; i++) {
+            ULID next = u.next();
+            assertEquals(-1, prev.compareTo(next));
+            prev = next;
+        }
+    }
+
+    @Test
+    void overflow() {
+        ConcurrentMonotonicULID u = new ConcurrentMonotonicULID(new Random() {
+            @Override public void nextBytes(byte[] bytes) {
+                Arrays.fill(bytes, (byte) 0xff);
+            }
+        }, true);
+
+        assertThrows(IllegalStateException.class, () -> {
+            while (true) {
+                u.next();
+            }
+        });
+        assertEquals(1, u.getMetrics().getOverflows());
+    }
+
+    @Test
+    void concurrentMonotonicPerThread() throws Exception {
+        ConcurrentMonotonicULID u = new ConcurrentMonotonicULID(new Random(), true);
+        Set<ULID> all = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    ULID prev = u.next();
+                    all.add(prev);
+                    for (int i = 0; i < 50_000; i++) {
+                        ULID next = u.next();
+                        assertEquals(-1, prev.compareTo(next));
+                        all.add(next);
+                        prev = next;
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8 * 50_001, all.size());
+        assertEquals(8 * 50_001, u.getMetrics().getGenerated());
+        // burst is tracked together with last ULID, so it can't exceed same millisecond increments
+        ULIDGeneratorMetrics metrics = u.getMetrics();
+        assertTrue(metrics.getMaxSameMillisBurst() >= 1);
+        assertTrue(metrics.getMaxSameMillisBurst() <= metrics.getIncrements() + 1);
+        assertEquals(0, metrics.getClockRegressions());
+    }
+
+    @Test
+    void virtualThreads() throws Exception {
+        Method factory;
+        try {
+            factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            factory = null;
+        }
+        if (Boolean.getBoolean("ulid.test.requireVirtualThreads")) {
+            assertNotNull(factory, "Virtual threads are not supported by this JVM");
+        }
+        assumeTrue(factory != null, "Virtual threads are not supported by this JVM");
+
+        ConcurrentMonotonicULID u = new ConcurrentMonotonicULID(new SecureRandom());
+        Set<ULID> all = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = (ExecutorService) factory.invoke(null);
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                executor.submit(() -> {
+                    all.add(u.next());
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        assertEquals(100_000, all.size());
+    }
+}
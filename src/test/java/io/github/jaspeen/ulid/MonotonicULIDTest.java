@@ -2,6 +2,8 @@ package io.github.jaspeen.ulid;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,4 +26,44 @@ class MonotonicULIDTest {
 
         assertEquals(u1.compareTo(u2), -1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void metrics() {
+        MonotonicULID u = new MonotonicULID(ThreadLocalRandom.current(), true);
+        for (int i = 0; i < 10_000; i++) {
+            u.next();
+        }
+        ULIDGeneratorMetrics metrics = u.getMetrics();
+
+        assertEquals(10_000, metrics.getGenerated());
+        assertTrue(metrics.getIncrements() < 10_000);
+        assertTrue(metrics.getMaxSameMillisBurst() >= 1);
+        assertEquals(0, metrics.getContended());
+        assertEquals(0, metrics.getOverflows());
+    }
+
+    @Test
+    void metricsOverflow() {
+        MonotonicULID u = new MonotonicULID(new Random() {
+            @Override public void nextBytes(byte[] bytes) {
+                Arrays.fill(bytes, (byte) 0xff);
+            }
+        }, true);
+
+        // overflows as soon as two ULIDs are generated in the same millisecond
+        assertThrows(IllegalStateException.class, () -> {
+            while (true) {
+                u.next();
+            }
+        });
+        assertEquals(1, u.getMetrics().getOverflows());
+    }
+
+    @Test
+    void metricsDisabled() {
+        MonotonicULID u = new MonotonicULID(ThreadLocalRandom.current());
+        u.next();
+
+        assertEquals(0, u.getMetrics().getGenerated());
+    }
+}
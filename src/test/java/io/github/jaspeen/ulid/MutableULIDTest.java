@@ -0,0 +1,75 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import static io.github.jaspeen.ulid.ULID.BIN_LENGTH;
+import static io.github.jaspeen.ulid.ULID.ENTROPY_LENGTH;
+import static io.github.jaspeen.ulid.ULID.STR_LENGTH;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableULIDTest {
+
+    @Test
+    void mirrorsULID() {
+        MutableULID m = new MutableULID();
+        for (int i = 0; i < 1000; i++) {
+            ULID u = ULID.random();
+            m.parse(u.toString());
+
+            assertEquals(u.getMsb(), m.getMsb());
+            assertEquals(u.getLsb(), m.getLsb());
+            assertEquals(u.getTimestamp(), m.getTimestamp());
+            assertEquals(u.toString(), m.toString());
+            assertEquals(u.hashCode(), m.hashCode());
+            assertEquals(u, m.toULID());
+            assertTrue(m.equalsTo(u));
+            assertEquals(0, m.compareTo(u));
+
+            byte[] entropy = new byte[ENTROPY_LENGTH + 2];
+            m.getEntropy(entropy, 2);
+            byte[] expected = new byte[ENTROPY_LENGTH + 2];
+            System.arraycopy(u.getEntropy(), 0, expected, 2, ENTROPY_LENGTH);
+            assertArrayEquals(expected, entropy);
+
+            byte[] bytes = new byte[BIN_LENGTH + 1];
+            m.toBytes(bytes, 1);
+            assertEquals(u, new MutableULID().setBytes(bytes, 1).toULID());
+
+            char[] chars = new char[STR_LENGTH];
+            m.toChars(chars, 0);
+            assertEquals(u.toString(), new String(chars));
+        }
+    }
+
+    @Test
+    void parseLowerCase() {
+        MutableULID m = new MutableULID().parse("0123456789abcdefghijklmnop");
+
+        assertEquals("0123456789ABCDEFGH1JK1MN0P", m.toString());
+    }
+
+    @Test
+    void compareTo() {
+        ULID low = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+        MutableULID m1 = new MutableULID().set(low);
+        MutableULID m2 = new MutableULID(low.getMsb(), low.getLsb() | Long.MIN_VALUE);
+
+        assertEquals(-1, m1.compareTo(m2));
+        assertEquals(1, m2.compareTo(m1));
+        assertEquals(1, m2.compareTo(low));
+        assertEquals(m1, new MutableULID().set(low.getMsb(), low.getLsb()));
+        assertNotEquals(m1, m2);
+    }
+
+    @Test
+    void invalid() {
+        MutableULID m = new MutableULID();
+
+        assertThrows(IllegalArgumentException.class, () -> m.parse("0123"));
+        assertThrows(IllegalArgumentException.class, () -> m.parse("uU:!;,[]()%$@`~&*(+_<>/:'{"));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.setBytes(new byte[16], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.toBytes(new byte[16], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.toChars(new char[25], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> m.getEntropy(new byte[9], 0));
+    }
+}
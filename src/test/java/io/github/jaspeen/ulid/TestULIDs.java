@@ -0,0 +1,25 @@
+package io.github.jaspeen.ulid;
+
+import java.util.Random;
+
+/**
+ * Shared fixtures for tests which need many ULIDs with controlled timestamps.
+ */
+final class TestULIDs {
+    /**
+     * Timestamp of 01ARYZ6S41TSV4RRFFQ69G5FAV, example of ulid/javascript documentation.
+     */
+    static final long T = 1469918176385L;
+
+    private TestULIDs() {
+    }
+
+    /**
+     * ULID with provided timestamp and entropy from provided random, reproducible for seeded random.
+     */
+    static ULID at(Random random, long time) {
+        byte[] entropy = new byte[ULID.ENTROPY_LENGTH];
+        random.nextBytes(entropy);
+        return ULID.generate(time, entropy);
+    }
+}
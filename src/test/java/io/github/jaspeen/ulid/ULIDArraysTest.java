@@ -0,0 +1,95 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDArraysTest {
+    static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    static ULID[] randomUlids(Random random, int count, int times, int duplicates) {
+        ULID[] res = new ULID[count];
+        long base = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            if (duplicates > 0 && i > 0 && random.nextInt(duplicates) == 0) {
+                res[i] = res[random.nextInt(i)];
+            } else {
+                res[i] = TestULIDs.at(random, base + random.nextInt(times));
+            }
+        }
+        return res;
+    }
+
+    @Test
+    void packUnpack() {
+        ULID[] ulids = randomUlids(new Random(1), 100, 10, 0);
+        long[] packed = ULIDArrays.pack(ulids);
+
+        assertEquals(200, packed.length);
+        assertArrayEquals(ulids, ULIDArrays.unpack(packed, ulids.length));
+        assertEquals(ulids[42], ULIDArrays.get(packed, 42));
+        assertThrows(IllegalArgumentException.class, () -> ULIDArrays.unpack(packed, 101));
+        assertThrows(IllegalArgumentException.class, () -> ULIDArrays.parallelSort(new long[3]));
+    }
+
+    @Test
+    void sortSmall() {
+        ULID[] ulids = randomUlids(new Random(2), 1000, 5, 10);
+        long[] packed = ULIDArrays.pack(ulids);
+        Arrays.sort(ulids);
+
+        ULIDArrays.parallelSort(packed);
+
+        assertArrayEquals(ulids, ULIDArrays.unpack(packed, ulids.length));
+    }
+
+    @Test
+    void sortLarge() {
+        ULID[] ulids = randomUlids(new Random(3), 500_000, 100_000, 20);
+        long[] packed = ULIDArrays.pack(ulids);
+        Arrays.sort(ulids);
+
+        ULIDArrays.parallelSort(packed, POOL);
+
+        assertArrayEquals(ulids, ULIDArrays.unpack(packed, ulids.length));
+    }
+
+    @Test
+    void sortSameTimestamp() {
+        ULID[] ulids = randomUlids(new Random(4), 200_000, 1, 0);
+        long[] packed = ULIDArrays.pack(ulids);
+        Arrays.sort(ulids);
+
+        ULIDArrays.parallelSort(packed, POOL);
+
+        assertArrayEquals(ulids, ULIDArrays.unpack(packed, ulids.length));
+    }
+
+    @Test
+    void sortUnique() {
+        ULID[] ulids = randomUlids(new Random(5), 300_000, 1000, 3);
+        long[] packed = ULIDArrays.pack(ulids);
+        ULID[] expected = new TreeSet<>(Arrays.asList(ulids)).toArray(new ULID[0]);
+
+        int unique = ULIDArrays.parallelSortUnique(packed, POOL);
+
+        assertEquals(expected.length, unique);
+        assertArrayEquals(expected, ULIDArrays.unpack(packed, unique));
+    }
+
+    @Test
+    void sortUniqueEmpty() {
+        assertEquals(0, ULIDArrays.parallelSortUnique(new long[0]));
+    }
+}
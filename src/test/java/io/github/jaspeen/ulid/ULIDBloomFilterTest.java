@@ -0,0 +1,252 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.jaspeen.ulid.TestULIDs.T;
+import static io.github.jaspeen.ulid.TestULIDs.at;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDBloomFilterTest {
+    static final long HOUR = 3_600_000L;
+    final Random random = new Random(42);
+
+    @Test
+    void noFalseNegatives() {
+        ULIDBloomFilter filter = new ULIDBloomFilter(10_000, 0.01, HOUR);
+        List<ULID> added = new ArrayList<>();
+        int changed = 0;
+        for (int i = 0; i < 10_000; i++) {
+            ULID ulid = at(random, T + i);
+            if (filter.put(ulid)) {
+                changed++;
+            }
+            added.add(ulid);
+        }
+        // put of a new ULID reports no change only on false positive
+        assertTrue(changed > 9_900, "changed " + changed);
+        for (ULID ulid : added) {
+            assertTrue(filter.mightContain(ulid));
+            assertFalse(filter.put(ulid));
+        }
+    }
+
+    @Test
+    void falsePositiveRate() {
+        ULIDBloomFilter filter = new ULIDBloomFilter(100_000, 0.01, HOUR);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(at(random, T));
+        }
+        int falsePositives = 0;
+        int lookups = 100_000;
+        for (int i = 0; i < lookups; i++) {
+            if (filter.mightContain(at(random, T))) {
+                falsePositives++;
+            }
+        }
+        assertTrue((double) falsePositives / lookups < 0.015, "false positive rate " + falsePositives);
+    }
+
+    @Test
+    void monotonicEntropy() {
+        // sequential entropy of monotonic ULIDs must not increase false positive rate
+        ULIDBloomFilter filter = new ULIDBloomFilter(100_000, 0.01, HOUR);
+        ULID base = at(random, T);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(base.getMsb(), base.getLsb() + i);
+        }
+        int falsePositives = 0;
+        for (int i = 100_000; i < 200_000; i++) {
+            if (filter.mightContain(base.getMsb(), base.getLsb() + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 1500, "false positives " + falsePositives);
+    }
+
+    @Test
+    void dropOlderThan() {
+        ULIDBloomFilter filter = new ULIDBloomFilter(1000, 0.01, HOUR);
+        long base = T - T % HOUR;
+        // segment boundaries
+        ULID old = ULID.max(base - 1);
+        ULID current = ULID.min(base);
+        ULID newer = at(random, base + HOUR);
+        filter.put(old);
+        filter.put(current);
+        filter.put(newer);
+        assertEquals(3, filter.getSegmentCount());
+
+        // segment containing time is kept
+        assertEquals(1, filter.dropOlderThan(base + 10));
+        assertFalse(filter.mightContain(old));
+        assertTrue(filter.mightContain(current));
+        assertTrue(filter.mightContain(newer));
+        assertEquals(2, filter.getSegmentCount());
+        assertEquals(0, filter.dropOlderThan(base + 10));
+    }
+
+    @Test
+    void droppedAndFutureSegmentsNotCreated() {
+        ULIDBloomFilter filter = new ULIDBloomFilter(1000, 0.01, HOUR);
+        long base = T - T % HOUR;
+        filter.put(ULID.min(base));
+        assertEquals(1, filter.dropOlderThan(base + HOUR));
+
+        // late ULID for dropped time is not added and does not recreate segment
+        assertFalse(filter.put(ULID.max(base)));
+        assertFalse(filter.mightContain(ULID.max(base)));
+        assertEquals(0, filter.getSegmentCount());
+
+        long now = System.currentTimeMillis();
+        assertTrue(filter.put(at(random, now + HOUR / 2)));
+        assertThrows(IllegalArgumentException.class, () -> filter.put(at(random, now + 3 * HOUR)));
+        assertThrows(IllegalArgumentException.class, () -> filter.put(ULID.max(ULID.MAX_TIME)));
+        assertEquals(1, filter.getSegmentCount());
+    }
+
+    @Test
+    void sizing() {
+        ULIDBloomFilter filter = new ULIDBloomFilter(1000, 0.01, HOUR);
+        // 9586 bits rounded up to power of 2
+        assertEquals(16384, filter.getSegmentBits());
+        assertEquals(7, filter.getHashCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new ULIDBloomFilter(0, 0.01, HOUR));
+        assertThrows(IllegalArgumentException.class, () -> new ULIDBloomFilter(1000, 0, HOUR));
+        assertThrows(IllegalArgumentException.class, () -> new ULIDBloomFilter(1000, 1, HOUR));
+        assertThrows(IllegalArgumentException.class, () -> new ULIDBloomFilter(1000, 0.01, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ULIDBloomFilter(Long.MAX_VALUE / 2, 0.01, HOUR));
+    }
+
+    @Test
+    void writeRead() throws IOException {
+        ULIDBloomFilter filter = new ULIDBloomFilter(1000, 0.01, HOUR);
+        List<ULID> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ULID ulid = at(random, T + i * HOUR / 100);
+            filter.put(ulid);
+            added.add(ulid);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(new DataOutputStream(bytes));
+        // header, segment count, key and bits per segment
+        assertEquals(4 + 1 + 8 + 1 + 1 + 8 + 4 + filter.getSegmentCount() * (8 + filter.getSegmentBits() / 8),
+                     bytes.size());
+
+        ULIDBloomFilter read = ULIDBloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(filter.getSegmentCount(), read.getSegmentCount());
+        assertEquals(filter.getSegmentBits(), read.getSegmentBits());
+        assertEquals(filter.getHashCount(), read.getHashCount());
+        for (ULID ulid : added) {
+            assertTrue(read.mightContain(ulid));
+        }
+        for (int i = 0; i < 1000; i++) {
+            ULID ulid = at(random, T + i * HOUR / 100);
+            assertEquals(filter.mightContain(ulid), read.mightContain(ulid));
+        }
+
+        byte[] data = bytes.toByteArray();
+        long segmentBytes = filter.getSegmentBits() / 8;
+        assertThrows(IOException.class, () -> ULIDBloomFilter.readFrom(
+                new DataInputStream(new ByteArrayInputStream(data)), segmentBytes * filter.getSegmentCount() - 1));
+        assertEquals(filter.getSegmentCount(), ULIDBloomFilter.readFrom(
+                new DataInputStream(new ByteArrayInputStream(data)), segmentBytes * filter.getSegmentCount())
+                .getSegmentCount());
+
+        // huge header is rejected before allocation
+        ByteArrayOutputStream huge = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(huge);
+        out.write(data, 0, 4 + 1 + 8);
+        out.writeByte(36);
+        out.writeByte(7);
+        out.writeLong(0);
+        out.writeInt(Integer.MAX_VALUE);
+        assertThrows(IOException.class,
+                     () -> ULIDBloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(huge.toByteArray()))));
+
+        byte[] corrupted = bytes.toByteArray();
+        corrupted[0] = 0;
+        assertThrows(IOException.class,
+                     () -> ULIDBloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(corrupted))));
+    }
+
+    @Test
+    void concurrentPutSameULID() throws Exception {
+        ULIDBloomFilter filter = new ULIDBloomFilter(100_000, 0.01, HOUR);
+        List<ULID> ulids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ulids.add(at(random, T + i));
+        }
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<boolean[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    boolean[] added = new boolean[ulids.size()];
+                    for (int i = 0; i < ulids.size(); i++) {
+                        added[i] = filter.put(ulids.get(i));
+                    }
+                    return added;
+                }));
+            }
+            int[] addedCount = new int[ulids.size()];
+            for (Future<boolean[]> f : futures) {
+                boolean[] added = f.get(30, TimeUnit.SECONDS);
+                for (int i = 0; i < added.length; i++) {
+                    if (added[i]) {
+                        addedCount[i]++;
+                    }
+                }
+            }
+            for (int i = 0; i < addedCount.length; i++) {
+                assertTrue(addedCount[i] <= 1, "added by " + addedCount[i] + " threads: " + ulids.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentPut() throws Exception {
+        ULIDBloomFilter filter = new ULIDBloomFilter(100_000, 0.01, HOUR);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<ULID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random r = new Random(seed);
+                    List<ULID> added = new ArrayList<>();
+                    for (int i = 0; i < 20_000; i++) {
+                        ULID ulid = at(r, T + i);
+                        filter.put(ulid);
+                        added.add(ulid);
+                    }
+                    return added;
+                }));
+            }
+            for (Future<List<ULID>> f : futures) {
+                for (ULID ulid : f.get(30, TimeUnit.SECONDS)) {
+                    assertTrue(filter.mightContain(ulid));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDCacheTest {
+
+    @Test
+    void sameInstance() {
+        ULIDCache cache = new ULIDCache(16);
+        ULID ulid = ULID.random();
+
+        ULID cached = cache.get(ulid.toString());
+        assertEquals(ulid, cached);
+        assertSame(cached, cache.get(ulid.toString()));
+        assertSame(cached, cache.get(ulid.toString().toLowerCase()));
+        assertSame(cached, cache.get(ulid.getMsb(), ulid.getLsb()));
+        assertSame(cached, cache.intern(ulid));
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(4, cache.getHits());
+        assertEquals(0.8, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void intern() {
+        ULIDCache cache = new ULIDCache(16);
+        ULID ulid = ULID.random();
+
+        assertSame(ulid, cache.intern(ulid));
+        assertSame(ulid, cache.intern(ULID.fromString(ulid.toString())));
+    }
+
+    @Test
+    void invalid() {
+        ULIDCache cache = new ULIDCache(16);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("0123"));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("uU:!;,[]()%$@`~&*(+_<>/:'{"));
+        assertThrows(IllegalArgumentException.class, () -> new ULIDCache(0));
+    }
+
+    @Test
+    void bounded() {
+        ULIDCache cache = new ULIDCache(64);
+        ULID[] hot = new ULID[8];
+        for (int i = 0; i < hot.length; i++) {
+            hot[i] = cache.intern(ULID.random());
+        }
+        for (int i = 0; i < 10_000; i++) {
+            cache.intern(ULID.random());
+            // frequently used entries should survive
+            for (ULID ulid : hot) {
+                cache.get(ulid.getMsb(), ulid.getLsb());
+            }
+        }
+        for (ULID ulid : hot) {
+            assertSame(ulid, cache.get(ulid.getMsb(), ulid.getLsb()));
+        }
+        assertEquals(80_008, cache.getHits());
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        ULIDCache cache = new ULIDCache(1024);
+        String[] ids = new String[256];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ULID.random().toString();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        String id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+                        assertEquals(id, cache.get(id).toString());
+                    }
+                });
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.getHitRate() > 0.9);
+    }
+}
@@ -0,0 +1,315 @@
+package io.github.jaspeen.ulid;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.jaspeen.ulid.hibernate.ULIDTypeDescriptor;
+import io.github.jaspeen.ulid.jackson.ULIDModule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property based tests of all encode/decode paths against independent reference implementation of the spec.
+ * <p>
+ * Runs offline with fixed seed, longer runs with other seeds can be started with system properties, e.g.
+ * {@code -Dulid.fuzz.seed=123 -Dulid.fuzz.iterations=10000000}. Failure messages contain the seed.
+ * @see <a href="https://github.com/ulid/spec">ULID spec</a>
+ */
+class ULIDCodecFuzzTest {
+    static final long SEED = Long.getLong("ulid.fuzz.seed", 0x5eedL);
+    static final int ITERATIONS = Integer.getInteger("ulid.fuzz.iterations", 100_000);
+
+    /**
+     * Canonical string, timestamp, UUID. Values of ulid/javascript documentation and spec examples.
+     */
+    static final String[][] VECTORS = {
+            {"00000000000000000000000000", "0", "00000000-0000-0000-0000-000000000000"},
+            {"01ARYZ6S41TSV4RRFFQ69G5FAV", "1469918176385", "01563df3-6481-d676-4c61-efb99302bd5b"},
+            {"01ARZ3NDEKTSV4RRFFQ69G5FAV", "1469922850259", "01563e3a-b5d3-d676-4c61-efb99302bd5b"},
+            {"01BX5ZZKBKACTAV9WEVGEMMVRZ", "1508808576371", "015f4bff-cd73-5334-ada7-8edc1d4a6f1f"},
+            {"7ZZZZZZZZZZZZZZZZZZZZZZZZZ", "281474976710655", "ffffffff-ffff-ffff-ffff-ffffffffffff"},
+    };
+
+    static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    static final BigInteger MASK = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    final Random random = new Random(SEED);
+    final ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule());
+    final ObjectMapper binaryMapper = new ObjectMapper().registerModule(new ULIDModule(true));
+
+    // reference implementation, straightforward and slow on purpose
+
+    static String refEncode(long msb, long lsb) {
+        BigInteger v = toBig(msb, lsb);
+        char[] res = new char[ULID.STR_LENGTH];
+        for (int i = ULID.STR_LENGTH - 1; i >= 0; i--) {
+            res[i] = ALPHABET.charAt(v.intValue() & 31);
+            v = v.shiftRight(5);
+        }
+        return new String(res);
+    }
+
+    /**
+     * Returns msb and lsb, or null if value is invalid
+     */
+    static long[] refDecode(String s) {
+        if (s.length() != ULID.STR_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            // case conversion maps some non-ASCII characters to ASCII letters
+            if (s.charAt(i) > 127) {
+                return null;
+            }
+        }
+        BigInteger v = BigInteger.ZERO;
+        for (char c : s.toUpperCase(Locale.ROOT).toCharArray()) {
+            // Crockford's Base32 decoding of ambiguous characters
+            if (c == 'I' || c == 'L') {
+                c = '1';
+            } else if (c == 'O') {
+                c = '0';
+            }
+            int d = ALPHABET.indexOf(c);
+            if (d < 0) {
+                return null;
+            }
+            v = v.shiftLeft(5).or(BigInteger.valueOf(d));
+        }
+        if (v.bitLength() > 128) {
+            return null;
+        }
+        return new long[] {v.shiftRight(64).longValue(), v.longValue()};
+    }
+
+    static BigInteger toBig(long msb, long lsb) {
+        return BigInteger.valueOf(msb).shiftLeft(64).or(BigInteger.valueOf(lsb).and(MASK.shiftRight(64))).and(MASK);
+    }
+
+    /**
+     * Random long biased to edge cases.
+     */
+    long nextLong() {
+        switch (random.nextInt(8)) {
+            case 0:
+                return 0L;
+            case 1:
+                return -1L;
+            case 2:
+                return 1L << random.nextInt(64);
+            case 3:
+                return ~(1L << random.nextInt(64));
+            case 4:
+                return random.nextLong() >>> random.nextInt(64);
+            default:
+                return random.nextLong();
+        }
+    }
+
+    String seedInfo(long msb, long lsb) {
+        return "seed=" + SEED + " msb=" + Long.toHexString(msb) + " lsb=" + Long.toHexString(lsb);
+    }
+
+    @Test
+    void canonicalVectors() {
+        for (String[] vector : VECTORS) {
+            ULID ulid = ULID.fromString(vector[0]);
+            assertEquals(vector[0], ulid.toString());
+            assertEquals(Long.parseLong(vector[1]), ulid.getTimestamp());
+            assertEquals(UUID.fromString(vector[2]), ulid.toUUID());
+            assertEquals(ulid, ULID.fromUUID(UUID.fromString(vector[2])));
+            assertEquals(vector[0], refEncode(ulid.getMsb(), ulid.getLsb()));
+        }
+    }
+
+    @Test
+    void roundTripAllPaths() throws Exception {
+        ULIDCache cache = new ULIDCache(1024);
+        ULIDTypeDescriptor descriptor = new ULIDTypeDescriptor();
+        ULIDTypeDescriptor cachedDescriptor = new ULIDTypeDescriptor(new ULIDCache(1024));
+        MutableULID mutable = new MutableULID();
+        char[] chars = new char[ULID.STR_LENGTH + 8];
+        byte[] bytes = new byte[ULID.BIN_LENGTH + 8];
+        ByteBuffer buffer = ByteBuffer.allocate(ULID.BIN_LENGTH + 8);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long msb = nextLong();
+            long lsb = nextLong();
+            String info = seedInfo(msb, lsb);
+            ULID ulid = new ULID(msb, lsb);
+
+            // string
+            String str = ulid.toString();
+            assertEquals(refEncode(msb, lsb), str, info);
+            assertEquals(ulid, ULID.fromString(str), info);
+            assertEquals(ulid, ULID.fromString(str.toLowerCase(Locale.ROOT)), info);
+
+            // chars at offset
+            int offset = random.nextInt(9);
+            ulid.toChars(chars, offset);
+            assertEquals(str, new String(chars, offset, ULID.STR_LENGTH), info);
+            assertEquals(ulid, ULID.fromChars(chars, offset), info);
+
+            // allocation free decoding
+            assertTrue(mutable.parse(str).equalsTo(ulid), info);
+            assertEquals(str, mutable.toString(), info);
+            assertEquals(ulid, cache.get(str), info);
+            assertEquals(ulid, cache.get(new StringBuilder(str)), info);
+
+            // binary
+            byte[] bin = ulid.toBytes();
+            assertEquals(toBig(msb, lsb), new BigInteger(1, bin), info);
+            assertEquals(ulid, ULID.fromBytes(bin), info);
+            offset = random.nextInt(9);
+            ulid.toBytes(bytes, offset);
+            assertEquals(ulid, ULID.fromBytes(bytes, offset), info);
+            assertTrue(new MutableULID().setBytes(bytes, offset).equalsTo(ulid), info);
+            buffer.clear().position(offset);
+            ulid.toBytes(buffer);
+            buffer.flip().position(offset);
+            assertEquals(ulid, ULID.fromBytes(buffer), info);
+
+            // fields
+            assertEquals(msb >>> 16, ulid.getTimestamp(), info);
+            byte[] entropy = ulid.getEntropy();
+            for (int j = 0; j < ULID.ENTROPY_LENGTH; j++) {
+                assertEquals(bin[6 + j], entropy[j], info);
+            }
+            assertEquals(ulid.getEntropyHigh(), (entropy[0] & 0xff) << 8 | (entropy[1] & 0xff), info);
+
+            // UUID
+            UUID uuid = ulid.toUUID();
+            assertEquals(msb, uuid.getMostSignificantBits(), info);
+            assertEquals(lsb, uuid.getLeastSignificantBits(), info);
+            assertEquals(ulid, ULID.fromUUID(uuid), info);
+
+            // Jackson
+            String json = mapper.writeValueAsString(ulid);
+            assertEquals('"' + str + '"', json, info);
+            assertEquals(ulid, mapper.readValue(json, ULID.class), info);
+            assertEquals(ulid, mapper.readValue(json.toLowerCase(Locale.ROOT), ULID.class), info);
+            json = binaryMapper.writeValueAsString(ulid);
+            assertEquals('"' + Base64.getEncoder().encodeToString(bin) + '"', json, info);
+            assertEquals(ulid, binaryMapper.readValue(json, ULID.class), info);
+
+            // Hibernate, wrap of plain and cache backed descriptors
+            for (ULIDTypeDescriptor d : new ULIDTypeDescriptor[] {descriptor, cachedDescriptor}) {
+                assertEquals(uuid, d.unwrap(ulid, UUID.class, null), info);
+                assertEquals(str, d.unwrap(ulid, String.class, null), info);
+                assertArrayEquals(bin, d.unwrap(ulid, byte[].class, null), info);
+                assertEquals(ulid, d.wrap(uuid, null), info);
+                assertEquals(ulid, d.wrap(str, null), info);
+                assertEquals(ulid, d.wrap(str.toLowerCase(Locale.ROOT), null), info);
+                assertEquals(ulid, d.wrap(bin, null), info);
+                assertEquals(ulid, d.fromString(d.toString(ulid)), info);
+            }
+        }
+    }
+
+    @Test
+    void ambiguousCharacters() {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            long msb = nextLong();
+            long lsb = nextLong();
+            ULID ulid = new ULID(msb, lsb);
+            char[] chars = ulid.toString().toCharArray();
+            for (int j = 0; j < chars.length; j++) {
+                if (chars[j] == '1' && random.nextBoolean()) {
+                    chars[j] = "ILil".charAt(random.nextInt(4));
+                } else if (chars[j] == '0' && random.nextBoolean()) {
+                    chars[j] = "Oo".charAt(random.nextInt(2));
+                } else if (Character.isLetter(chars[j]) && random.nextBoolean()) {
+                    chars[j] = Character.toLowerCase(chars[j]);
+                }
+            }
+            String str = new String(chars);
+            String info = seedInfo(msb, lsb) + " str=" + str;
+            assertEquals(ulid, ULID.fromString(str), info);
+            assertEquals(ulid, ULID.fromChars(chars, 0), info);
+            assertTrue(new MutableULID().parse(str).equalsTo(ulid), info);
+        }
+    }
+
+    @Test
+    void randomStrings() throws Exception {
+        // mostly valid characters, so that some strings are valid
+        String chars = ALPHABET + "ilouILOU*-_ \u00e9\u0130\u0131\u212a";
+        ULIDCache cache = new ULIDCache(16);
+        ULIDTypeDescriptor descriptor = new ULIDTypeDescriptor();
+        ULIDTypeDescriptor cachedDescriptor = new ULIDTypeDescriptor(new ULIDCache(16));
+        int valid = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < ULID.STR_LENGTH; j++) {
+                sb.append(random.nextInt(4) == 0 ? chars.charAt(random.nextInt(chars.length()))
+                                                 : ALPHABET.charAt(random.nextInt(32)));
+            }
+            if (random.nextInt(4) == 0) {
+                // first character within 128 bits
+                sb.setCharAt(0, (char) ('0' + random.nextInt(8)));
+            }
+            String str = sb.toString();
+            String info = "seed=" + SEED + " str=" + str;
+            String json = mapper.writeValueAsString(str);
+            long[] expected = refDecode(str);
+            if (expected == null) {
+                assertThrows(IllegalArgumentException.class, () -> ULID.fromString(str), info);
+                assertThrows(IllegalArgumentException.class, () -> ULID.fromChars(str.toCharArray(), 0), info);
+                assertThrows(IllegalArgumentException.class, () -> new MutableULID().parse(str), info);
+                assertThrows(IllegalArgumentException.class, () -> cache.get(str), info);
+                assertThrows(JsonProcessingException.class, () -> mapper.readValue(json, ULID.class), info);
+                assertThrows(IllegalArgumentException.class, () -> descriptor.wrap(str, null), info);
+                assertThrows(IllegalArgumentException.class, () -> cachedDescriptor.wrap(str, null), info);
+            } else {
+                valid++;
+                ULID ulid = new ULID(expected[0], expected[1]);
+                assertEquals(ulid, ULID.fromString(str), info);
+                assertEquals(ulid, ULID.fromChars(str.toCharArray(), 0), info);
+                assertTrue(new MutableULID().parse(str).equalsTo(ulid), info);
+                assertEquals(ulid, cache.get(str), info);
+                assertEquals(ulid, mapper.readValue(json, ULID.class), info);
+                assertEquals(ulid, descriptor.wrap(str, null), info);
+                assertEquals(ulid, cachedDescriptor.wrap(str, null), info);
+            }
+        }
+        assertTrue(valid > 0, "no valid strings generated");
+    }
+
+    @Test
+    void orderMatchesEncodings() {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            ULID a = new ULID(nextLong(), nextLong());
+            ULID b = random.nextBoolean() ? new ULID(a.getMsb(), nextLong()) : new ULID(nextLong(), nextLong());
+            String info = "seed=" + SEED + " a=" + a + " b=" + b;
+            int cmp = Integer.signum(a.compareTo(b));
+            assertEquals(cmp, Integer.signum(a.toString().compareTo(b.toString())), info);
+            assertEquals(cmp, Integer.signum(toBig(a.getMsb(), a.getLsb()).compareTo(toBig(b.getMsb(), b.getLsb()))),
+                         info);
+        }
+    }
+
+    @Test
+    void scannerFindsAll() {
+        List<ULID> expected = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            ULID ulid = new ULID(nextLong(), nextLong());
+            expected.add(ulid);
+            text.append(random.nextBoolean() ? ulid.toString() : ulid.toString().toLowerCase(Locale.ROOT));
+            text.append(random.nextBoolean() ? " " : ",\n");
+        }
+        List<ULID> found = new ArrayList<>();
+        new ULIDScanner().scan(text.toString().getBytes(StandardCharsets.US_ASCII),
+                               (msb, lsb) -> found.add(new ULID(msb, lsb)));
+        assertEquals(expected, found, "seed=" + SEED);
+    }
+}
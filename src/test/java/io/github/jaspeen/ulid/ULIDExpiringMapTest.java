@@ -0,0 +1,187 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static io.github.jaspeen.ulid.TestULIDs.T;
+import static io.github.jaspeen.ulid.TestULIDs.at;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDExpiringMapTest {
+    final Random random = new Random(42);
+
+    @Test
+    void putGetRemove() {
+        ULIDExpiringMap<String> map = new ULIDExpiringMap<>(1000);
+        ULID a = at(random, T);
+        ULID b = at(random, T + 5000);
+        assertTrue(map.isEmpty());
+        assertNull(map.put(a, "a"));
+        assertEquals("a", map.put(a, "a2"));
+        assertEquals("a2", map.putIfAbsent(a, "a3"));
+        assertNull(map.putIfAbsent(b, "b"));
+        assertEquals(2, map.size());
+        assertEquals("a2", map.get(a));
+        assertTrue(map.containsKey(b));
+        assertNull(map.get(at(random, T)));
+        assertEquals("b", map.remove(b));
+        assertNull(map.remove(b));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void expireWholeBuckets() {
+        ULIDExpiringMap<Integer> map = new ULIDExpiringMap<>(1000);
+        long base = T - T % 1000;
+        // bucket boundaries
+        ULID old1 = ULID.min(base);
+        ULID old2 = ULID.max(base + 999);
+        ULID current = ULID.min(base + 1000);
+        ULID newer = at(random, base + 1500);
+        map.put(old1, 1);
+        map.put(old2, 2);
+        map.put(current, 3);
+        map.put(newer, 4);
+
+        // bucket containing expiration time is partially live and kept
+        assertEquals(0, map.expireBefore(base + 999));
+
+        Map<ULID, Integer> expired = new HashMap<>();
+        assertEquals(2, map.expireBefore(base + 1200, expired::put));
+        assertEquals(Map.of(old1, 1, old2, 2), expired);
+        assertNull(map.get(old1));
+        assertEquals(3, map.get(current));
+        assertEquals(4, map.get(newer));
+        assertEquals(2, map.size());
+
+        // expired keys are not accepted anymore
+        assertNull(map.put(at(random, base + 10), 5));
+        assertEquals(2, map.size());
+
+        // expiration time never moves backwards
+        assertEquals(0, map.expireBefore(base));
+        assertEquals(2, map.expireBefore(base + 2000));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void expireByTtl() {
+        ULIDExpiringMap<String> map = new ULIDExpiringMap<>(10);
+        long now = System.currentTimeMillis();
+        ULID old = at(random, now - 60_000);
+        ULID fresh = at(random, now);
+        map.put(old, "old");
+        map.put(fresh, "fresh");
+        assertEquals(1, map.expire(30_000));
+        assertEquals("fresh", map.get(fresh));
+        assertNull(map.get(old));
+    }
+
+    @Test
+    void invalidBucket() {
+        assertThrows(IllegalArgumentException.class, () -> new ULIDExpiringMap<>(0));
+    }
+
+    @Test
+    void concurrentPutAndExpire() throws Exception {
+        ULIDExpiringMap<Long> map = new ULIDExpiringMap<>(1);
+        int threads = 4;
+        int perThread = 20_000;
+        Set<ULID> stored = ConcurrentHashMap.newKeySet();
+        Map<ULID, Long> expired = new ConcurrentHashMap<>();
+        BiConsumer<ULID, Long> onExpired = (k, v) -> assertNull(expired.put(k, v), "expired twice: " + k);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random r = new Random(seed);
+                    for (int i = 0; i < perThread; i++) {
+                        long time = T + i / 10;
+                        ULID key = at(r, time);
+                        map.put(key, time);
+                        Long v = map.get(key);
+                        // either stored or expired concurrently
+                        assertTrue(v == null || v == time);
+                        if (v != null) {
+                            stored.add(key);
+                        }
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread / 10; i++) {
+                    long time = T + i;
+                    map.expireBefore(time, (k, v) -> {
+                        assertTrue(v < time);
+                        onExpired.accept(k, v);
+                    });
+                }
+            }));
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long limit = T + perThread / 10 - 1;
+        map.expireBefore(limit, onExpired);
+        assertTrue(map.size() <= (long) threads * 10);
+        map.expireBefore(limit + 1, onExpired);
+        assertTrue(map.isEmpty());
+        // nothing which was stored is lost
+        for (ULID key : stored) {
+            assertTrue(expired.containsKey(key), "lost: " + key);
+        }
+    }
+
+    @Test
+    void invalidTtl() {
+        ULIDExpiringMap<String> map = new ULIDExpiringMap<>(1000);
+        assertThrows(IllegalArgumentException.class, () -> map.expire(0));
+        assertThrows(IllegalArgumentException.class, () -> map.expire(-1, (k, v) -> { }));
+    }
+
+    @Test
+    void clearDropsRecentBuckets() {
+        ULIDExpiringMap<String> map = new ULIDExpiringMap<>(1000);
+        ULID a = at(random, T);
+        map.put(a, "a");
+        assertEquals("a", map.get(a));
+        map.clear();
+        assertNull(map.get(a));
+        assertNull(map.put(a, "a2"));
+        assertEquals("a2", map.get(a));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void distantBucketsShareRecentSlot() {
+        ULIDExpiringMap<String> map = new ULIDExpiringMap<>(1);
+        ULID a = at(random, T);
+        // same slot in the ring of recent buckets
+        ULID b = at(random, T + 64);
+        map.put(a, "a");
+        map.put(b, "b");
+        assertEquals("a", map.get(a));
+        assertEquals("b", map.get(b));
+        assertEquals(1, map.expireBefore(T + 1));
+        assertNull(map.get(a));
+        assertEquals("b", map.get(b));
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDPublisherTest {
+
+    static class TestSubscriber implements Flow.Subscriber<ULID> {
+        final List<ULID> received = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        int requestAfterEach = 0;
+        int cancelAfter = Integer.MAX_VALUE;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ULID item) {
+            received.add(item);
+            if (received.size() >= cancelAfter) {
+                subscription.cancel();
+            } else if (requestAfterEach > 0) {
+                subscription.request(requestAfterEach);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            fail("Unexpected completion");
+        }
+    }
+
+    static void assertMonotonic(List<ULID> ulids) {
+        for (int i = 1; i < ulids.size(); i++) {
+            assertEquals(-1, ulids.get(i - 1).compareTo(ulids.get(i)));
+        }
+    }
+
+    @Test
+    void demand() {
+        ULIDPublisher publisher = new ULIDPublisher(new MonotonicULID(ThreadLocalRandom.current()), 10);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.received.isEmpty());
+        subscriber.subscription.request(5);
+        assertEquals(5, subscriber.received.size());
+        subscriber.subscription.request(25);
+        assertEquals(30, subscriber.received.size());
+        assertMonotonic(subscriber.received);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void reentrantRequest() {
+        ULIDPublisher publisher = new ULIDPublisher(new MonotonicULID(ThreadLocalRandom.current()), 4);
+        TestSubscriber subscriber = new TestSubscriber();
+        subscriber.requestAfterEach = 1;
+        subscriber.cancelAfter = 1000;
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertEquals(1000, subscriber.received.size());
+        assertMonotonic(subscriber.received);
+    }
+
+    @Test
+    void cancel() {
+        ULIDPublisher publisher = new ULIDPublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+        subscriber.cancelAfter = 7;
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(7, subscriber.received.size());
+        subscriber.subscription.request(10);
+        assertEquals(7, subscriber.received.size());
+    }
+
+    @Test
+    void invalidRequest() {
+        ULIDPublisher publisher = new ULIDPublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    void invalidReentrantRequest() {
+        ULIDPublisher publisher = new ULIDPublisher();
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(ULID item) {
+                super.onNext(item);
+                if (received.size() == 3) {
+                    subscription.request(-1);
+                    // not signalled from within onNext
+                    assertNull(error);
+                }
+            }
+        };
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+        assertEquals(3, subscriber.received.size());
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        subscriber.subscription.request(1);
+        assertEquals(3, subscriber.received.size());
+    }
+}
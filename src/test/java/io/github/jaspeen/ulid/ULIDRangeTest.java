@@ -0,0 +1,78 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.jaspeen.ulid.TestULIDs.T;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDRangeTest {
+    @Test
+    void ofTime() {
+        ULIDRange range = ULIDRange.ofTime(T, T + 10);
+
+        assertEquals(ULID.min(T), range.getFrom());
+        assertEquals(ULID.max(T + 10), range.getTo());
+        assertThrows(IllegalArgumentException.class, () -> ULIDRange.ofTime(T + 1, T));
+    }
+
+    @Test
+    void contains() {
+        ULIDRange range = ULIDRange.ofTime(T, T + 10);
+
+        assertTrue(range.contains(ULID.min(T)));
+        assertTrue(range.contains(ULID.max(T + 10)));
+        assertTrue(range.contains(new ULID(T << 16 | 0xffff, Long.MIN_VALUE)));
+        assertFalse(range.contains(ULID.max(T - 1)));
+        assertFalse(range.contains(ULID.min(T + 11)));
+
+        assertTrue(range.contains(range));
+        assertTrue(range.contains(ULIDRange.ofTime(T + 1, T + 2)));
+        assertFalse(range.contains(ULIDRange.ofTime(T + 1, T + 11)));
+    }
+
+    @Test
+    void overlaps() {
+        ULIDRange range = ULIDRange.ofTime(T, T + 10);
+
+        assertTrue(range.overlaps(ULIDRange.ofTime(T + 10, T + 20)));
+        assertTrue(range.overlaps(ULIDRange.ofTime(T - 10, T)));
+        assertTrue(range.overlaps(ULIDRange.ofTime(T + 1, T + 2)));
+        assertTrue(ULIDRange.ofTime(T + 1, T + 2).overlaps(range));
+        assertFalse(range.overlaps(ULIDRange.ofTime(T + 11, T + 20)));
+        assertFalse(range.overlaps(ULIDRange.ofTime(T - 10, T - 1)));
+    }
+
+    @Test
+    void split() {
+        ULIDRange range = ULIDRange.ofTime(T, T + 9);
+        List<ULIDRange> parts = range.split(10);
+
+        assertEquals(10, parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            assertEquals(ULIDRange.ofTime(T + i, T + i), parts.get(i));
+        }
+
+        parts = range.split(3);
+        assertEquals(range.getFrom(), parts.get(0).getFrom());
+        assertEquals(range.getTo(), parts.get(2).getTo());
+        for (int i = 1; i < parts.size(); i++) {
+            ULID prevTo = parts.get(i - 1).getTo();
+            ULID from = parts.get(i).getFrom();
+            assertEquals(prevTo.getLsb() + 1, from.getLsb());
+            assertFalse(parts.get(i - 1).overlaps(parts.get(i)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> range.split(0));
+    }
+
+    @Test
+    void splitSmall() {
+        ULID u = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+        ULIDRange range = ULIDRange.of(u, new ULID(u.getMsb(), u.getLsb() + 2));
+        List<ULIDRange> parts = range.split(5);
+
+        assertEquals(3, parts.size());
+        assertEquals(ULIDRange.of(u, u), parts.get(0));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDScannerTest {
+    static final ULID U1 = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+    static final ULID U2 = ULID.fromString("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+    static final ULID U3 = ULID.fromString("0123456789ABCDEFGH1JK1MN0P");
+
+    static final String TEXT = "2023-01-01 INFO req=" + U1 + " user=" + U2.toString().toLowerCase() + "\n"
+                               + "bad: X" + U1 + " " + U1 + "X 8ZZZZZZZZZZZZZZZZZZZZZZZZZ " + U1 + "_ "
+                               + U1.toString().substring(1) + " " + U1 + "U\n"
+                               + "[" + U3 + "]," + U1;
+
+    static List<ULID> scanBytes(ULIDScanner scanner, String text) {
+        List<ULID> res = new ArrayList<>();
+        long count = scanner.scan(text.getBytes(StandardCharsets.UTF_8), (msb, lsb) -> res.add(new ULID(msb, lsb)));
+        assertEquals(res.size(), count);
+        return res;
+    }
+
+    @Test
+    void scanBytes() {
+        assertEquals(List.of(U1, U2, U3, U1), scanBytes(new ULIDScanner(), TEXT));
+    }
+
+    @Test
+    void scanWholeInput() {
+        assertEquals(List.of(U1), scanBytes(new ULIDScanner(), U1.toString()));
+        assertEquals(List.of(), scanBytes(new ULIDScanner(), ""));
+    }
+
+    @Test
+    void scanNonAscii() {
+        assertEquals(List.of(), scanBytes(new ULIDScanner(), "\u00e9" + U1));
+        assertEquals(List.of(U1), scanBytes(new ULIDScanner(), "\u00e9 " + U1 + " "));
+    }
+
+    @Test
+    void scanStreamWithSmallBuffer() throws IOException {
+        // tokens span buffer boundaries
+        ULIDScanner scanner = new ULIDScanner(7);
+        List<ULID> res = new ArrayList<>();
+        scanner.scan(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)),
+                     (msb, lsb) -> res.add(new ULID(msb, lsb)));
+        assertEquals(List.of(U1, U2, U3, U1), res);
+
+        // state is reset between inputs
+        res.clear();
+        scanner.scan(new ByteArrayInputStream("0123".getBytes(StandardCharsets.UTF_8)),
+                     (msb, lsb) -> res.add(new ULID(msb, lsb)));
+        scanner.scan(Channels.newChannel(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8))),
+                     (msb, lsb) -> res.add(new ULID(msb, lsb)));
+        assertEquals(List.of(U1, U2, U3, U1), res);
+    }
+
+    @Test
+    void scanFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("test.log");
+        Files.write(file, TEXT.getBytes(StandardCharsets.UTF_8));
+        List<ULID> res = new ArrayList<>();
+        new ULIDScanner().scan(file, (msb, lsb) -> res.add(new ULID(msb, lsb)));
+        assertEquals(List.of(U1, U2, U3, U1), res);
+    }
+}
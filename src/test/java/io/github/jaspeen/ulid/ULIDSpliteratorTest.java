@@ -0,0 +1,46 @@
+package io.github.jaspeen.ulid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDSpliteratorTest {
+
+    @Test
+    void sequential() {
+        List<ULID> ulids = ULID.stream(10_000).collect(Collectors.toList());
+
+        assertEquals(10_000, ulids.size());
+        for (int i = 1; i < ulids.size(); i++) {
+            assertEquals(-1, ulids.get(i - 1).compareTo(ulids.get(i)));
+        }
+    }
+
+    @Test
+    void parallel() {
+        Set<ULID> ulids = ULID.stream().parallel().limit(100_000).collect(Collectors.toSet());
+
+        assertEquals(100_000, ulids.size());
+    }
+
+    @Test
+    void split() {
+        Spliterator<ULID> s1 = new ULIDSpliterator(10_000);
+        Spliterator<ULID> s2 = s1.trySplit();
+
+        assertNotNull(s2);
+        assertEquals(10_000, s1.estimateSize() + s2.estimateSize());
+        assertTrue(s1.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertNull(new ULIDSpliterator(100).trySplit());
+    }
+
+    @Test
+    void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> ULID.stream(-1));
+    }
+}
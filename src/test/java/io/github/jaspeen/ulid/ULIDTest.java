@@ -4,6 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.UUID;
@@ -108,6 +112,27 @@ class ULIDTest {
         });
     }
 
+    @Test
+    void charsOffset() {
+        ULID ulid = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+        char[] chars = new char[ULID.STR_LENGTH + 2];
+        ulid.toChars(chars, 2);
+        assertEquals(ulid, ULID.fromChars(chars, 2));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> ulid.toChars(chars, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> ulid.toChars(chars, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ULID.fromChars(chars, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> ULID.fromChars(chars, -1));
+    }
+
+    @Test
+    void fromStringOverflow() {
+        assertThrows(IllegalArgumentException.class, () -> ULID.fromString("80000000000000000000000000"));
+        assertThrows(IllegalArgumentException.class, () -> ULID.fromString("ZZZZZZZZZZZZZZZZZZZZZZZZZZ"));
+        assertThrows(IllegalArgumentException.class, () -> ULID.fromChars("8ZZZZZZZZZZZZZZZZZZZZZZZZZ".toCharArray(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new MutableULID().parse("80000000000000000000000000"));
+    }
+
     @ParameterizedTest(name = "{0}")
     @MethodSource("testData")
     void fromBytes(Fixture fix) {
@@ -118,6 +143,63 @@ class ULIDTest {
         assertArrayEquals(fix.entropy, ulid.getEntropy());
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testData")
+    void fromBytesOffset(Fixture fix) {
+        byte[] buf = new byte[BIN_LENGTH + 5];
+        System.arraycopy(fix.binValue, 0, buf, 3, BIN_LENGTH);
+        ULID ulid = ULID.fromBytes(buf, 3);
+        assertEquals(fix.normalized, ulid.toString());
+
+        byte[] out = new byte[BIN_LENGTH + 5];
+        ulid.toBytes(out, 3);
+        assertArrayEquals(buf, out);
+
+        byte[] entropy = new byte[ENTROPY_LENGTH + 2];
+        ulid.getEntropy(entropy, 1);
+        assertArrayEquals(fix.entropy, Arrays.copyOfRange(entropy, 1, ENTROPY_LENGTH + 1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> ULID.fromBytes(buf, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> ULID.fromBytes(buf, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ulid.toBytes(out, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> ulid.getEntropy(entropy, 3));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testData")
+    void byteBuffer(Fixture fix) {
+        ULID ulid = ULID.fromBytes(fix.binValue);
+        // byte order of the buffer must not matter
+        ByteBuffer buf = ByteBuffer.allocate(BIN_LENGTH * 2 + ENTROPY_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put((byte) 1);
+        ulid.toBytes(buf);
+        ulid.getEntropy(buf);
+        assertEquals(1 + BIN_LENGTH + ENTROPY_LENGTH, buf.position());
+        assertArrayEquals(fix.binValue, Arrays.copyOfRange(buf.array(), 1, 1 + BIN_LENGTH));
+        assertArrayEquals(fix.entropy, Arrays.copyOfRange(buf.array(), 1 + BIN_LENGTH, 1 + BIN_LENGTH + ENTROPY_LENGTH));
+
+        buf.flip().position(1);
+        assertEquals(ulid, ULID.fromBytes(buf));
+        assertEquals(1 + BIN_LENGTH, buf.position());
+        assertThrows(BufferUnderflowException.class, () -> ULID.fromBytes(buf));
+        assertEquals(1 + BIN_LENGTH, buf.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(BIN_LENGTH);
+        ulid.toBytes(direct);
+        assertThrows(BufferOverflowException.class, () -> ulid.toBytes(direct));
+        assertThrows(BufferOverflowException.class, () -> ulid.getEntropy(direct));
+        direct.flip();
+        assertEquals(ulid, ULID.fromBytes(direct));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testData")
+    void entropyPrimitives(Fixture fix) {
+        ULID ulid = ULID.fromBytes(fix.binValue);
+        assertEquals((fix.entropy[0] & 0xff) << 8 | (fix.entropy[1] & 0xff), ulid.getEntropyHigh());
+        assertEquals(ULID.bytesToLong(fix.entropy, 2), ulid.getEntropyLow());
+    }
+
     @Test
     void fromBytesInvalid() {
         assertThrows(NullPointerException.class, () ->{
@@ -183,6 +265,33 @@ class ULIDTest {
         assertEquals(u3.compareTo(u1), 0);
     }
 
+    @Test
+    void compareToUnsigned() {
+        ULID low = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+        ULID high = new ULID(low.getMsb(), low.getLsb() | Long.MIN_VALUE);
+
+        assertEquals(-1, low.compareTo(high));
+        assertEquals(1, high.compareTo(low));
+        assertTrue(low.toString().compareTo(high.toString()) < 0);
+    }
+
+    @Test
+    void minMax() {
+        long time = TestULIDs.T;
+        ULID min = ULID.min(time);
+        ULID max = ULID.max(time);
+
+        assertEquals(time, min.getTimestamp());
+        assertEquals(time, max.getTimestamp());
+        assertArrayEquals(new byte[ENTROPY_LENGTH], min.getEntropy());
+        assertArrayEquals(allSame(ENTROPY_LENGTH, (byte) -1), max.getEntropy());
+        assertEquals("01ARYZ6S410000000000000000", min.toString());
+        assertEquals("01ARYZ6S41ZZZZZZZZZZZZZZZZ", max.toString());
+        assertEquals(-1, max.compareTo(ULID.min(time + 1)));
+        assertThrows(IllegalArgumentException.class, () -> ULID.min(-1));
+        assertThrows(IllegalArgumentException.class, () -> ULID.max(ULID.MAX_TIME + 1));
+    }
+
     @Test
     void customRandom() {
         ULID zeroEntropyUlid = ULID.random(new Random() {
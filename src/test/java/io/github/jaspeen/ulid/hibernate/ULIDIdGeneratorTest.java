@@ -0,0 +1,47 @@
+package io.github.jaspeen.ulid.hibernate;
+
+import io.github.jaspeen.ulid.ULID;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDIdGeneratorTest {
+
+    @Test
+    void blockIncreasingAndRefilledWhenExhausted() {
+        ULIDIdGenerator.Block block = new ULIDIdGenerator.Block(100, 60_000);
+        assertEquals(0, block.remaining());
+
+        List<ULID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(block.next());
+            assertEquals(99 - i, block.remaining());
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+        }
+
+        ULID refilled = block.next();
+        assertEquals(99, block.remaining());
+        assertTrue(ids.get(99).compareTo(refilled) < 0);
+    }
+
+    @Test
+    void blockRefilledWhenTooOld() throws InterruptedException {
+        ULIDIdGenerator.Block block = new ULIDIdGenerator.Block(100, 20);
+        ULID first = block.next();
+        assertEquals(99, block.remaining());
+        block.next();
+        assertEquals(98, block.remaining());
+
+        Thread.sleep(50);
+        long afterSleep = System.currentTimeMillis();
+        ULID refilled = block.next();
+        assertEquals(99, block.remaining());
+        assertTrue(first.compareTo(refilled) < 0);
+        assertTrue(refilled.getTimestamp() >= afterSleep);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.jaspeen.ulid.hibernate;
+
+import io.github.jaspeen.ulid.ULID;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDListConverterTest {
+    static final ULID U1 = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+    static final ULID U2 = ULID.fromString("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+
+    final ULIDListConverter converter = new ULIDListConverter();
+
+    @Test
+    void roundTrip() {
+        List<ULID> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(ULID.random());
+        }
+        byte[] packed = converter.convertToDatabaseColumn(list);
+        assertEquals(100 * ULID.BIN_LENGTH, packed.length);
+        assertArrayEquals(list.get(1).toBytes(), Arrays.copyOfRange(packed, ULID.BIN_LENGTH, 2 * ULID.BIN_LENGTH));
+
+        List<ULID> loaded = converter.convertToEntityAttribute(packed);
+        assertInstanceOf(RandomAccess.class, loaded);
+        assertEquals(list, loaded);
+        assertEquals(list.hashCode(), loaded.hashCode());
+        // loaded list is stored without encoding
+        assertSame(packed, converter.convertToDatabaseColumn(loaded));
+    }
+
+    @Test
+    void fixedValues() {
+        byte[] packed = converter.convertToDatabaseColumn(List.of(U1, U2));
+        List<ULID> loaded = converter.convertToEntityAttribute(packed);
+        assertEquals(2, loaded.size());
+        assertEquals(U1, loaded.get(0));
+        assertEquals(U2, loaded.get(1));
+        assertEquals(1, loaded.indexOf(U2));
+    }
+
+    @Test
+    void emptyAndNull() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+        assertEquals(0, converter.convertToDatabaseColumn(List.of()).length);
+        assertTrue(converter.convertToEntityAttribute(new byte[0]).isEmpty());
+    }
+
+    @Test
+    void modifiable() {
+        byte[] packed = converter.convertToDatabaseColumn(List.of(U1, U2));
+        List<ULID> loaded = converter.convertToEntityAttribute(packed);
+        loaded.add(U1);
+        assertEquals(List.of(U1, U2, U1), loaded);
+        loaded.set(0, U2);
+        assertEquals(U2, loaded.remove(1));
+        assertEquals(List.of(U2, U1), loaded);
+
+        // modified list is encoded again, loaded data is not changed
+        byte[] stored = converter.convertToDatabaseColumn(loaded);
+        assertNotSame(packed, stored);
+        assertEquals(List.of(U2, U1), converter.convertToEntityAttribute(stored));
+        assertEquals(List.of(U1, U2), converter.convertToEntityAttribute(packed));
+
+        List<ULID> cleared = converter.convertToEntityAttribute(packed);
+        cleared.clear();
+        assertTrue(cleared.isEmpty());
+        assertEquals(0, converter.convertToDatabaseColumn(cleared).length);
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(new byte[17]));
+        List<ULID> loaded = converter.convertToEntityAttribute(U1.toBytes());
+        assertThrows(IndexOutOfBoundsException.class, () -> loaded.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> loaded.get(-1));
+    }
+}
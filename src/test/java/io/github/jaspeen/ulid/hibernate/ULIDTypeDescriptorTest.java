@@ -0,0 +1,31 @@
+package io.github.jaspeen.ulid.hibernate;
+
+import io.github.jaspeen.ulid.ULID;
+import io.github.jaspeen.ulid.ULIDCache;
+import org.hibernate.HibernateException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDTypeDescriptorTest {
+    static final ULID U1 = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+
+    @Test
+    void cachedWrap() {
+        ULIDTypeDescriptor descriptor = new ULIDTypeDescriptor(new ULIDCache(16));
+        ULID loaded = descriptor.wrap(U1.toString(), null);
+        assertEquals(U1, loaded);
+        assertSame(loaded, descriptor.wrap(U1.toBytes(), null));
+        assertSame(loaded, descriptor.wrap(U1.toUUID(), null));
+    }
+
+    @Test
+    void invalidBytesLength() {
+        for (ULIDTypeDescriptor descriptor : new ULIDTypeDescriptor[] {
+                new ULIDTypeDescriptor(), new ULIDTypeDescriptor(new ULIDCache(16))}) {
+            assertThrows(HibernateException.class, () -> descriptor.wrap(new byte[ULID.BIN_LENGTH - 1], null));
+            assertThrows(HibernateException.class, () -> descriptor.wrap(new byte[ULID.BIN_LENGTH + 1], null));
+            assertEquals(U1, descriptor.wrap(U1.toBytes(), null));
+        }
+    }
+}
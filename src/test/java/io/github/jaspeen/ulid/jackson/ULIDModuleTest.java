@@ -0,0 +1,88 @@
+package io.github.jaspeen.ulid.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import io.github.jaspeen.ulid.ULID;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ULIDModuleTest {
+    static final ULID U1 = ULID.fromString("01ARZ3NDEKTSV4RRFFQ69G5FAV");
+    static final ULID U2 = ULID.fromString("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+
+    static class Bean {
+        public ULID id;
+        public List<ULID> refs;
+    }
+
+    @Test
+    void string() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule());
+        Bean bean = new Bean();
+        bean.id = U1;
+        bean.refs = List.of(U1, U2);
+
+        String json = mapper.writeValueAsString(bean);
+        assertEquals("{\"id\":\"" + U1 + "\",\"refs\":[\"" + U1 + "\",\"" + U2 + "\"]}", json);
+
+        Bean parsed = mapper.readValue(json, Bean.class);
+        assertEquals(U1, parsed.id);
+        assertEquals(List.of(U1, U2), parsed.refs);
+    }
+
+    @Test
+    void lowerCase() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule());
+
+        assertEquals(U1, mapper.readValue("\"" + U1.toString().toLowerCase() + "\"", ULID.class));
+    }
+
+    @Test
+    void binary() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule(true));
+
+        String json = mapper.writeValueAsString(U1);
+        assertEquals("\"" + Base64.getEncoder().encodeToString(U1.toBytes()) + "\"", json);
+        assertEquals(U1, mapper.readValue(json, ULID.class));
+    }
+
+    @Test
+    void mapKeys() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule());
+
+        String json = mapper.writeValueAsString(Map.of(U1, 1));
+        Map<ULID, Integer> parsed = mapper.readValue(json, new TypeReference<Map<ULID, Integer>>() {});
+        assertEquals(Map.of(U1, 1), parsed);
+    }
+
+    @Test
+    void invalid() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule());
+
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"uU:!;,[]()%$@`~&*(+_<>/:'{\"", ULID.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"AAAA\"", ULID.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"not-a-ulid\"", ULID.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"!!!!\"", ULID.class));
+        // base64 is accepted only in binary mode
+        String base64 = "\"" + Base64.getEncoder().encodeToString(U1.toBytes()) + "\"";
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue(base64, ULID.class));
+        assertThrows(Exception.class, () -> mapper.readValue("123", ULID.class));
+    }
+
+    @Test
+    void invalidBinary() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ULIDModule(true));
+
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"not-a-ulid\"", ULID.class));
+        // base64 length, but not base64
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"!!!!!!!!!!!!!!!!!!!!!!!!\"", ULID.class));
+        // base64 of 18 bytes
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"AAAAAAAAAAAAAAAAAAAAAAAA\"", ULID.class));
+    }
+}